@@ -24,6 +24,7 @@ import com.github.nmorel.gwtjackson.benchmark.client.data.DataContainer;
 import com.github.nmorel.gwtjackson.benchmark.client.data.DataProvider;
 import com.github.nmorel.gwtjackson.benchmark.client.data.Person;
 import com.github.nmorel.gwtjackson.benchmark.client.mechanism.GwtJackson;
+import com.github.nmorel.gwtjackson.benchmark.client.mechanism.GwtJacksonNative;
 import com.github.nmorel.gwtjackson.benchmark.client.mechanism.Mechanism;
 import com.github.nmorel.gwtjackson.benchmark.client.mechanism.RestyGwt;
 import com.github.nmorel.gwtjackson.benchmark.client.ui.InputCheckbox;
@@ -71,6 +72,9 @@ public class BenchmarkView extends Composite implements Editor<Criteria> {
     @UiField
     InputCheckbox deserialization;
 
+    @UiField
+    InputCheckbox longTexts;
+
     @UiField
     Button launchBtn;
 
@@ -82,7 +86,7 @@ public class BenchmarkView extends Composite implements Editor<Criteria> {
     private final CriteriaDriver driver;
 
     public BenchmarkView() {
-        mechanisms = Arrays.asList( new GwtJackson(), new RestyGwt() );
+        mechanisms = Arrays.asList( new GwtJackson(), new GwtJacksonNative(), new RestyGwt() );
 
         initWidget( ourUiBinder.createAndBindUi( this ) );
 
@@ -121,7 +125,7 @@ public class BenchmarkView extends Composite implements Editor<Criteria> {
         }
 
         // initialize data
-        final DataContainer container = DataProvider.generateData( criteria.getNbItems() );
+        final DataContainer container = DataProvider.generateData( criteria.getNbItems(), criteria.isLongTexts() );
 
         // prepare the test
         final List<Operation> operations = new ArrayList<>();
@@ -31,6 +31,8 @@ public class Criteria {
 
     private boolean deserialization;
 
+    private boolean longTexts;
+
     public int getNbItems() {
         return nbItems;
     }
@@ -70,4 +72,12 @@ public class Criteria {
     public void setDeserialization( boolean deserialization ) {
         this.deserialization = deserialization;
     }
+
+    public boolean isLongTexts() {
+        return longTexts;
+    }
+
+    public void setLongTexts( boolean longTexts ) {
+        this.longTexts = longTexts;
+    }
 }
@@ -8,11 +8,37 @@ import java.util.List;
  */
 public final class DataProvider {
 
-    public static DataContainer generateData( int nbItems ) {
+    /**
+     * Text as it could be typed by a user : long, mostly without characters to escape and with a few line breaks.
+     */
+    private static final String LONG_TEXT;
+
+    static {
+        StringBuilder builder = new StringBuilder();
+        for ( int i = 0; i < 20; i++ ) {
+            builder.append( "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et " +
+                    "dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea " +
+                    "commodo consequat." );
+            if ( i % 5 == 4 ) {
+                builder.append( '\n' );
+            } else {
+                builder.append( ' ' );
+            }
+        }
+        LONG_TEXT = builder.toString();
+    }
+
+    public static DataContainer generateData( int nbItems, boolean longTexts ) {
         final List<Person> persons = new ArrayList<>( nbItems );
         for ( int i = 0; i < nbItems; i++ ) {
-            persons.add( new Person( "John", "Doe", new Person( "Jane", "Doe" ), new Person( "Billy", "Doe", new Person( "Lily",
-                    "Doe" ) ) ) );
+            Person person = new Person( "John", "Doe", new Person( "Jane", "Doe" ), new Person( "Billy", "Doe", new Person( "Lily",
+                    "Doe" ) ) );
+            if ( longTexts ) {
+                // one description without escaping needed and one with line breaks
+                person.setDescription( LONG_TEXT.replace( '\n', ' ' ) );
+                person.getChilds().get( 0 ).setDescription( LONG_TEXT );
+            }
+            persons.add( person );
         }
         return new DataContainer( persons );
     }
@@ -13,6 +13,8 @@ public class Person {
 
     private String lastName;
 
+    private String description;
+
     private List<Person> childs;
 
     public Person() {
@@ -44,6 +46,14 @@ public class Person {
         this.lastName = lastName;
     }
 
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription( String description ) {
+        this.description = description;
+    }
+
     public List<Person> getChilds() {
         return childs;
     }
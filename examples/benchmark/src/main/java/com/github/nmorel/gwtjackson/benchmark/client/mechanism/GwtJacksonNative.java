@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.benchmark.client.mechanism;
+
+import com.github.nmorel.gwtjackson.benchmark.client.data.DataContainer;
+import com.github.nmorel.gwtjackson.benchmark.client.mechanism.GwtJackson.DataContainerMapper;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * gwt-jackson using the browser's native JSON support.
+ *
+ * @author Nicolas Morel
+ */
+public class GwtJacksonNative extends Mechanism {
+
+    private static class DataContainerMapperDecorator implements ObjectMapper<DataContainer> {
+
+        private final DataContainerMapper mapper;
+
+        private DataContainerMapperDecorator( DataContainerMapper mapper ) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public DataContainer read( String input ) throws JsonDeserializationException {
+            return mapper.read( input, new JsonDeserializationContext.Builder().useNativeJsonParser( true ).build() );
+        }
+
+        @Override
+        public DataContainer read( String input, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+            return mapper.read( input, ctx );
+        }
+
+        @Override
+        public String write( DataContainer value ) throws JsonSerializationException {
+            return mapper.write( value, new JsonSerializationContext.Builder().useNativeJsonStringify( true ).build() );
+        }
+
+        @Override
+        public String write( DataContainer value, JsonSerializationContext ctx ) throws JsonSerializationException {
+            return mapper.write( value, ctx );
+        }
+    }
+
+    public GwtJacksonNative() {
+        super( "gwt-jackson native" );
+    }
+
+    @Override
+    protected ObjectMapper<DataContainer> newMapper() {
+        return new DataContainerMapperDecorator( GWT.<DataContainerMapper>create( DataContainerMapper.class ) );
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client.deser;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.JsArrayNumber;
+import com.google.gwt.typedarrays.shared.ArrayBufferView;
+
+/**
+ * Base implementation of {@link JsonDeserializer} for typed arrays. The values are read into a JavaScript array then copied into
+ * the typed array by a single native call which also does the conversion to the element type.
+ *
+ * @param <T> type of the typed array
+ *
+ * @author Nicolas Morel
+ */
+public abstract class AbstractTypedArrayJsonDeserializer<T extends ArrayBufferView> extends JsonDeserializer<T> {
+
+    private static native void set( ArrayBufferView array, JsArrayNumber values ) /*-{
+        array.set(values);
+    }-*/;
+
+    @Override
+    public T doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        JsArrayNumber values = JsArrayNumber.createArray().cast();
+        if ( JsonToken.BEGIN_ARRAY == reader.peek() ) {
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                if ( JsonToken.NULL == reader.peek() ) {
+                    reader.skipValue();
+                    values.push( 0 );
+                } else {
+                    values.push( reader.nextDouble() );
+                }
+            }
+            reader.endArray();
+        } else if ( ctx.isAcceptSingleValueAsArray() ) {
+            values.push( reader.nextDouble() );
+        } else {
+            throw ctx.traceError( "Cannot deserialize a typed array out of " + reader.peek() + " token", reader );
+        }
+
+        T array = newArray( values.length() );
+        set( array, values );
+        return array;
+    }
+
+    /**
+     * @param length length of the array
+     *
+     * @return a new typed array
+     */
+    protected abstract T newArray( int length );
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client.deser;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.google.gwt.typedarrays.shared.Float64Array;
+import com.google.gwt.typedarrays.shared.TypedArrays;
+
+/**
+ * Default {@link JsonDeserializer} implementation for {@link Float64Array}.
+ *
+ * @author Nicolas Morel
+ */
+public class Float64ArrayJsonDeserializer extends AbstractTypedArrayJsonDeserializer<Float64Array> {
+
+    private static final Float64ArrayJsonDeserializer INSTANCE = new Float64ArrayJsonDeserializer();
+
+    /**
+     * @return an instance of {@link Float64ArrayJsonDeserializer}
+     */
+    public static Float64ArrayJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private Float64ArrayJsonDeserializer() { }
+
+    @Override
+    protected Float64Array newArray( int length ) {
+        return TypedArrays.createFloat64Array( length );
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client.deser;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.google.gwt.typedarrays.shared.Int32Array;
+import com.google.gwt.typedarrays.shared.TypedArrays;
+
+/**
+ * Default {@link JsonDeserializer} implementation for {@link Int32Array}.
+ *
+ * @author Nicolas Morel
+ */
+public class Int32ArrayJsonDeserializer extends AbstractTypedArrayJsonDeserializer<Int32Array> {
+
+    private static final Int32ArrayJsonDeserializer INSTANCE = new Int32ArrayJsonDeserializer();
+
+    /**
+     * @return an instance of {@link Int32ArrayJsonDeserializer}
+     */
+    public static Int32ArrayJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private Int32ArrayJsonDeserializer() { }
+
+    @Override
+    protected Int32Array newArray( int length ) {
+        return TypedArrays.createInt32Array( length );
+    }
+}
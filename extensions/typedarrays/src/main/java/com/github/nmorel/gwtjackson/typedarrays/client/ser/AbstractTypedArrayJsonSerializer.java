@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client.ser;
+
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializer;
+import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.typedarrays.shared.ArrayBufferView;
+
+/**
+ * Base implementation of {@link JsonSerializer} for typed arrays. The array is written as an array of numbers.
+ *
+ * @param <T> type of the typed array
+ *
+ * @author Nicolas Morel
+ */
+public abstract class AbstractTypedArrayJsonSerializer<T extends ArrayBufferView> extends JsonSerializer<T> {
+
+    private static native int length( ArrayBufferView values ) /*-{
+        return values.length;
+    }-*/;
+
+    private static native double get( ArrayBufferView values, int index ) /*-{
+        return values[index];
+    }-*/;
+
+    /**
+     * @return the values joined by a comma or null if one of them is not a finite number and cannot be written as is
+     */
+    private static native String join( ArrayBufferView values ) /*-{
+        for (var i = 0, length = values.length; i < length; i++) {
+            if (!isFinite(values[i])) {
+                return null;
+            }
+        }
+        return Array.prototype.join.call(values, ',');
+    }-*/;
+
+    @Override
+    protected void doSerialize( JsonWriter writer, T values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        int length = length( values );
+        if ( !ctx.isWriteEmptyJsonArrays() && length == 0 ) {
+            writer.cancelName();
+            return;
+        }
+
+        if ( ctx.isWriteSingleElemArraysUnwrapped() && length == 1 ) {
+            writer.value( get( values, 0 ) );
+            return;
+        }
+
+        // the whole array is formatted by the browser in one call
+        String joined = join( values );
+        if ( null != joined ) {
+            writer.rawValue( "[" + joined + "]" );
+        } else {
+            writer.beginArray();
+            for ( int i = 0; i < length; i++ ) {
+                writer.value( get( values, i ) );
+            }
+            writer.endArray();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client.ser;
+
+import com.github.nmorel.gwtjackson.client.JsonSerializer;
+import com.google.gwt.typedarrays.shared.Uint32Array;
+
+/**
+ * Default {@link JsonSerializer} implementation for {@link Uint32Array}.
+ *
+ * @author Nicolas Morel
+ */
+public class Uint32ArrayJsonSerializer extends AbstractTypedArrayJsonSerializer<Uint32Array> {
+
+    private static final Uint32ArrayJsonSerializer INSTANCE = new Uint32ArrayJsonSerializer();
+
+    /**
+     * @return an instance of {@link Uint32ArrayJsonSerializer}
+     */
+    public static Uint32ArrayJsonSerializer getInstance() {
+        return INSTANCE;
+    }
+
+    private Uint32ArrayJsonSerializer() { }
+}
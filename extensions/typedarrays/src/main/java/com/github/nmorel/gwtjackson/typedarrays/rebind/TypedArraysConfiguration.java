@@ -0,0 +1,63 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.rebind;
+
+import com.github.nmorel.gwtjackson.client.AbstractConfiguration;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Float32ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Float64ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Int16ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Int32ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Int8ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Uint16ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Uint32ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.deser.Uint8ArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Float32ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Float64ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Int16ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Int32ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Int8ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Uint16ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Uint32ArrayJsonSerializer;
+import com.github.nmorel.gwtjackson.typedarrays.client.ser.Uint8ArrayJsonSerializer;
+import com.google.gwt.typedarrays.shared.Float32Array;
+import com.google.gwt.typedarrays.shared.Float64Array;
+import com.google.gwt.typedarrays.shared.Int16Array;
+import com.google.gwt.typedarrays.shared.Int32Array;
+import com.google.gwt.typedarrays.shared.Int8Array;
+import com.google.gwt.typedarrays.shared.Uint16Array;
+import com.google.gwt.typedarrays.shared.Uint32Array;
+import com.google.gwt.typedarrays.shared.Uint8Array;
+
+/**
+ * Configuration for the JavaScript typed arrays.
+ *
+ * @author Nicolas Morel
+ */
+public class TypedArraysConfiguration extends AbstractConfiguration {
+
+    @Override
+    protected void configure() {
+        type( Float32Array.class ).serializer( Float32ArrayJsonSerializer.class ).deserializer( Float32ArrayJsonDeserializer.class );
+        type( Float64Array.class ).serializer( Float64ArrayJsonSerializer.class ).deserializer( Float64ArrayJsonDeserializer.class );
+        type( Int8Array.class ).serializer( Int8ArrayJsonSerializer.class ).deserializer( Int8ArrayJsonDeserializer.class );
+        type( Int16Array.class ).serializer( Int16ArrayJsonSerializer.class ).deserializer( Int16ArrayJsonDeserializer.class );
+        type( Int32Array.class ).serializer( Int32ArrayJsonSerializer.class ).deserializer( Int32ArrayJsonDeserializer.class );
+        type( Uint8Array.class ).serializer( Uint8ArrayJsonSerializer.class ).deserializer( Uint8ArrayJsonDeserializer.class );
+        type( Uint16Array.class ).serializer( Uint16ArrayJsonSerializer.class ).deserializer( Uint16ArrayJsonDeserializer.class );
+        type( Uint32Array.class ).serializer( Uint32ArrayJsonSerializer.class ).deserializer( Uint32ArrayJsonDeserializer.class );
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client;
+
+import com.google.gwt.junit.tools.GWTTestSuite;
+import junit.framework.Test;
+import junit.framework.TestCase;
+
+/**
+ * @author Nicolas Morel
+ */
+public class GwtJacksonTypedArraysTestSuite extends TestCase {
+
+    public static Test suite() {
+        GWTTestSuite suite = new GWTTestSuite();
+        suite.addTestSuite( TypedArraysGwtTest.class );
+        return suite;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.typedarrays.client;
+
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.typedarrays.shared.Float32Array;
+import com.google.gwt.typedarrays.shared.Float64Array;
+import com.google.gwt.typedarrays.shared.Int16Array;
+import com.google.gwt.typedarrays.shared.Int32Array;
+import com.google.gwt.typedarrays.shared.Int8Array;
+import com.google.gwt.typedarrays.shared.TypedArrays;
+import com.google.gwt.typedarrays.shared.Uint16Array;
+import com.google.gwt.typedarrays.shared.Uint32Array;
+import com.google.gwt.typedarrays.shared.Uint8Array;
+
+/**
+ * Unit tests to verify serialization and deserialization of typed arrays. HtmlUnit does not support the typed arrays so the tests
+ * with values only run in a browser supporting them.
+ *
+ * @author Nicolas Morel
+ */
+public class TypedArraysGwtTest extends GwtJacksonTypedArraysTestCase {
+
+    public interface BeanWithTypedArraysMapper extends ObjectMapper<BeanWithTypedArrays> {
+
+        static BeanWithTypedArraysMapper INSTANCE = GWT.create( BeanWithTypedArraysMapper.class );
+    }
+
+    public static class BeanWithTypedArrays {
+
+        public Float32Array float32;
+
+        public Float64Array float64;
+
+        public Int8Array int8;
+
+        public Int16Array int16;
+
+        public Int32Array int32;
+
+        public Uint8Array uint8;
+
+        public Uint16Array uint16;
+
+        public Uint32Array uint32;
+    }
+
+    public void testSerializationOfNulls() {
+        String expected = "{" +
+                "\"float32\":null," +
+                "\"float64\":null," +
+                "\"int8\":null," +
+                "\"int16\":null," +
+                "\"int32\":null," +
+                "\"uint8\":null," +
+                "\"uint16\":null," +
+                "\"uint32\":null" +
+                "}";
+        assertEquals( expected, BeanWithTypedArraysMapper.INSTANCE.write( new BeanWithTypedArrays() ) );
+    }
+
+    public void testDeserializationOfNulls() {
+        BeanWithTypedArrays result = BeanWithTypedArraysMapper.INSTANCE.read( "{\"float64\":null,\"uint8\":null}" );
+        assertNull( result.float64 );
+        assertNull( result.uint8 );
+    }
+
+    public void testSerialization() {
+        if ( !TypedArrays.isSupported() ) {
+            return;
+        }
+
+        BeanWithTypedArrays bean = new BeanWithTypedArrays();
+        bean.float32 = TypedArrays.createFloat32Array( 2 );
+        bean.float32.set( 0, 0.5f );
+        bean.float32.set( 1, -2f );
+        bean.float64 = TypedArrays.createFloat64Array( 3 );
+        bean.float64.set( 0, 1.25 );
+        bean.float64.set( 1, -3 );
+        bean.float64.set( 2, 1e21 );
+        bean.int8 = TypedArrays.createInt8Array( 0 );
+        bean.int16 = TypedArrays.createInt16Array( 1 );
+        bean.int16.set( 0, -300 );
+        bean.int32 = TypedArrays.createInt32Array( 2 );
+        bean.int32.set( 0, 2147483647 );
+        bean.int32.set( 1, -2147483648 );
+        bean.uint8 = TypedArrays.createUint8Array( 3 );
+        bean.uint8.set( 0, 0 );
+        bean.uint8.set( 1, 128 );
+        bean.uint8.set( 2, 255 );
+        bean.uint16 = TypedArrays.createUint16Array( 1 );
+        bean.uint16.set( 0, 65535 );
+        bean.uint32 = TypedArrays.createUint32Array( 1 );
+        bean.uint32.set( 0, 4294967295l );
+
+        String expected = "{" +
+                "\"float32\":[0.5,-2]," +
+                "\"float64\":[1.25,-3,1e+21]," +
+                "\"int8\":[]," +
+                "\"int16\":[-300]," +
+                "\"int32\":[2147483647,-2147483648]," +
+                "\"uint8\":[0,128,255]," +
+                "\"uint16\":[65535]," +
+                "\"uint32\":[4294967295]" +
+                "}";
+        assertEquals( expected, BeanWithTypedArraysMapper.INSTANCE.write( bean ) );
+    }
+
+    public void testSerializationOfNonFiniteValues() {
+        if ( !TypedArrays.isSupported() ) {
+            return;
+        }
+
+        BeanWithTypedArrays bean = new BeanWithTypedArrays();
+        bean.float64 = TypedArrays.createFloat64Array( 2 );
+        bean.float64.set( 0, 1 );
+        bean.float64.set( 1, Double.NaN );
+        try {
+            BeanWithTypedArraysMapper.INSTANCE.write( bean );
+            fail( "NaN is not a valid JSON value" );
+        } catch ( Exception expected ) {
+        }
+    }
+
+    public void testDeserialization() {
+        if ( !TypedArrays.isSupported() ) {
+            return;
+        }
+
+        String input = "{" +
+                "\"float32\":[0.5,null,-2]," +
+                "\"float64\":[1.25,-3,1e21,\"4.5\"]," +
+                "\"int8\":[]," +
+                "\"int16\":[-300]," +
+                "\"int32\":[2147483647,-2147483648]," +
+                "\"uint8\":[0,128,255,256]," +
+                "\"uint16\":[65535]," +
+                "\"uint32\":[4294967295]" +
+                "}";
+
+        BeanWithTypedArrays result = BeanWithTypedArraysMapper.INSTANCE.read( input );
+
+        assertEquals( 3, result.float32.length() );
+        assertEquals( 0.5f, result.float32.get( 0 ) );
+        assertEquals( 0f, result.float32.get( 1 ) );
+        assertEquals( -2f, result.float32.get( 2 ) );
+
+        assertEquals( 4, result.float64.length() );
+        assertEquals( 1.25, result.float64.get( 0 ) );
+        assertEquals( -3d, result.float64.get( 1 ) );
+        assertEquals( 1e21, result.float64.get( 2 ) );
+        assertEquals( 4.5, result.float64.get( 3 ) );
+
+        assertEquals( 0, result.int8.length() );
+
+        assertEquals( 1, result.int16.length() );
+        assertEquals( -300, result.int16.get( 0 ) );
+
+        assertEquals( 2, result.int32.length() );
+        assertEquals( 2147483647, result.int32.get( 0 ) );
+        assertEquals( -2147483648, result.int32.get( 1 ) );
+
+        // the values are converted like in JavaScript
+        assertEquals( 4, result.uint8.length() );
+        assertEquals( 0, result.uint8.get( 0 ) );
+        assertEquals( 128, result.uint8.get( 1 ) );
+        assertEquals( 255, result.uint8.get( 2 ) );
+        assertEquals( 0, result.uint8.get( 3 ) );
+
+        assertEquals( 65535, result.uint16.get( 0 ) );
+        assertEquals( 4294967295l, result.uint32.get( 0 ) );
+    }
+
+    public void testDeserializationOfNonArray() {
+        try {
+            BeanWithTypedArraysMapper.INSTANCE.read( "{\"float64\":1}" );
+            fail();
+        } catch ( JsonDeserializationException expected ) {
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.github.nmorel.gwtjackson.client;
 
+import com.github.nmorel.gwtjackson.client.deser.collection.BaseIterableJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
@@ -35,18 +36,74 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
     private JsonSerializer<T> serializer;
 
+    /**
+     * Context and reader reused by {@link #read(String)}. They are set to null while in use so a nested call creates its own.
+     */
+    private JsonDeserializationContext defaultDeserializationContext;
+
+    private JsonReader defaultReader;
+
+    /**
+     * Context and writer reused by {@link #write(Object)}. They are set to null while in use so a nested call creates its own.
+     */
+    private JsonSerializationContext defaultSerializationContext;
+
+    private JsonWriter defaultWriter;
+
     protected AbstractObjectMapper( String rootName ) {
         this.rootName = rootName;
     }
 
     @Override
     public T read( String in ) throws JsonDeserializationException {
-        return read( in, new JsonDeserializationContext.Builder().build() );
+        return readInto( in, null );
     }
 
     @Override
     public T read( String in, JsonDeserializationContext ctx ) throws JsonDeserializationException {
-        JsonReader reader = ctx.newJsonReader( in );
+        return read( ctx.newJsonReader( in ), ctx, null );
+    }
+
+    /**
+     * Reads a JSON input into an existing object, see {@link ObjectUpdater#readInto(ObjectReader, String, Object)}. The default
+     * context and reader are reused like in {@link #read(String)}.
+     */
+    T readInto( String in, T value ) throws JsonDeserializationException {
+        JsonDeserializationContext ctx = defaultDeserializationContext;
+        JsonReader reader = defaultReader;
+        if ( null == ctx ) {
+            ctx = new JsonDeserializationContext.Builder().build();
+            reader = ctx.newJsonReader( in );
+        } else {
+            defaultDeserializationContext = null;
+            defaultReader = null;
+            reader.reset( in );
+        }
+
+        try {
+            return read( reader, ctx, value );
+        } finally {
+            // the input and the objects are released before the context and the reader are given back
+            ctx.reset();
+            reader.reset( "" );
+            defaultDeserializationContext = ctx;
+            defaultReader = reader;
+        }
+    }
+
+    /**
+     * Reads a JSON input into an existing object, see
+     * {@link ObjectUpdater#readInto(ObjectReader, String, JsonDeserializationContext, Object)}.
+     */
+    T readInto( String in, JsonDeserializationContext ctx, T value ) throws JsonDeserializationException {
+        return read( ctx.newJsonReader( in ), ctx, value );
+    }
+
+    private T read( JsonReader reader, JsonDeserializationContext ctx, T value ) throws JsonDeserializationException {
+        JsonDeserializerParameters params = JsonDeserializerParameters.DEFAULT;
+        if ( null != ctx.getProjection() ) {
+            params = ctx.getProjection().getParameters( params );
+        }
 
         try {
 
@@ -64,13 +121,13 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
                     throw ctx.traceError( "Unwrap root value is enabled but the name '" + name + "' don't match the expected rootName " +
                             "'" + rootName + "'", reader );
                 }
-                T result = getDeserializer().deserialize( reader, ctx );
+                T result = getDeserializer().deserializeInto( reader, ctx, params, value );
                 reader.endObject();
                 return result;
 
             } else {
 
-                return getDeserializer().deserialize( reader, ctx );
+                return getDeserializer().deserializeInto( reader, ctx, params, value );
 
             }
 
@@ -82,6 +139,28 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
         }
     }
 
+    /**
+     * Returns the deserializer of the elements when the read type is an {@link Iterable}. The callers bind {@code E} to the type of
+     * the elements of the mapper, see {@link ChunkedArrayReader#create(ObjectReader, ChunkedArrayReader.Callback)}.
+     *
+     * @param ctx Context for the full reading process
+     * @param <E> Type of the elements
+     *
+     * @return the deserializer of the elements
+     * @throws JsonDeserializationException if the read type is not an {@link Iterable}
+     */
+    @SuppressWarnings( "unchecked" )
+    <E> JsonDeserializer<E> getElementDeserializer( JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        if ( ctx.isUnwrapRootValue() ) {
+            throw ctx.traceError( "Unwrap root value is not supported when reading the elements of an array one by one" );
+        }
+        JsonDeserializer<T> deserializer = getDeserializer();
+        if ( deserializer instanceof BaseIterableJsonDeserializer ) {
+            return ((BaseIterableJsonDeserializer<?, E>) deserializer).getElementDeserializer();
+        }
+        throw ctx.traceError( "The elements of an array can only be read one by one when the read type is an Iterable" );
+    }
+
     protected JsonDeserializer<T> getDeserializer() {
         if ( null == deserializer ) {
             deserializer = newDeserializer();
@@ -98,12 +177,43 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
     @Override
     public String write( T value ) throws JsonSerializationException {
-        return write( value, new JsonSerializationContext.Builder().build() );
+        JsonSerializationContext ctx = defaultSerializationContext;
+        JsonWriter writer = defaultWriter;
+        if ( null == ctx ) {
+            ctx = new JsonSerializationContext.Builder().build();
+            writer = ctx.newJsonWriter();
+        } else {
+            defaultSerializationContext = null;
+            defaultWriter = null;
+        }
+
+        try {
+            write( writer, value, ctx );
+            return writer.getOutput();
+        } finally {
+            ctx.reset();
+            writer.reset();
+            defaultSerializationContext = ctx;
+            defaultWriter = writer;
+        }
     }
 
     @Override
     public String write( T value, JsonSerializationContext ctx ) throws JsonSerializationException {
         JsonWriter writer = ctx.newJsonWriter();
+        write( writer, value, ctx );
+        return writer.getOutput();
+    }
+
+    /**
+     * Writes an object to JSON appended to the given {@link Appendable}, see
+     * {@link AppendableWriter#write(ObjectWriter, Object, Appendable, JsonSerializationContext)}.
+     */
+    void write( T value, Appendable output, JsonSerializationContext ctx ) throws JsonSerializationException {
+        write( ctx.newJsonWriter( output ), value, ctx );
+    }
+
+    private void write( JsonWriter writer, T value, JsonSerializationContext ctx ) throws JsonSerializationException {
         try {
             if ( ctx.isWrapRootValue() ) {
                 writer.beginObject();
@@ -113,7 +223,7 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
             } else {
                 getSerializer().serialize( writer, value, ctx );
             }
-            return writer.getOutput();
+            writer.flush();
         } catch ( JsonSerializationException e ) {
             // already logged, we just throw it
             throw e;
@@ -135,4 +245,18 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      * @return a new serializer
      */
     protected abstract JsonSerializer<T> newSerializer();
+
+    /**
+     * Returns the given reader or writer as an {@link AbstractObjectMapper}. The readers and writers created with GWT.create are
+     * always one.
+     *
+     * @throws IllegalArgumentException if the reader or writer has not been generated
+     */
+    @SuppressWarnings( "unchecked" )
+    static <T> AbstractObjectMapper<T> asMapper( Object mapper ) {
+        if ( !(mapper instanceof AbstractObjectMapper) ) {
+            throw new IllegalArgumentException( "Only the readers and writers created with GWT.create are supported" );
+        }
+        return (AbstractObjectMapper<T>) mapper;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+
+/**
+ * Writes an object to an {@link Appendable}. The output is appended by chunks while it is written instead of being returned as a
+ * single string.
+ * <p>Example : </p>
+ * <pre>
+ * AppendableWriter.write( personWriter, person, output );
+ * </pre>
+ *
+ * @author Nicolas Morel
+ */
+public final class AppendableWriter {
+
+    /**
+     * Writes an object to JSON with a writer created with GWT.create.
+     *
+     * @param writer writer of the object created with GWT.create
+     * @param value Object to write
+     * @param output destination of the JSON output
+     * @param <T> Type of the object
+     *
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     */
+    public static <T> void write( ObjectWriter<T> writer, T value, Appendable output ) throws JsonSerializationException {
+        write( writer, value, output, new JsonSerializationContext.Builder().build() );
+    }
+
+    /**
+     * Writes an object to JSON with a writer created with GWT.create.
+     *
+     * @param writer writer of the object created with GWT.create
+     * @param value Object to write
+     * @param output destination of the JSON output
+     * @param ctx Context for the full writing process
+     * @param <T> Type of the object
+     *
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     */
+    public static <T> void write( ObjectWriter<T> writer, T value, Appendable output, JsonSerializationContext ctx ) throws
+            JsonSerializationException {
+        AbstractObjectMapper.<T>asMapper( writer ).write( value, output, ctx );
+    }
+
+    private AppendableWriter() { }
+}
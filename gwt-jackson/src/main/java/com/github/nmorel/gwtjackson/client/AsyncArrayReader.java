@@ -0,0 +1,188 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.stream.impl.IncrementalJsonArrayReader;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
+
+/**
+ * Reads the elements of a JSON array in slices of limited duration scheduled with
+ * {@link Scheduler#scheduleIncremental(RepeatingCommand)}, so the browser stays responsive while reading a large array.
+ *
+ * @param <E> Type of the elements
+ *
+ * @author Nicolas Morel
+ */
+public class AsyncArrayReader<E> implements RepeatingCommand {
+
+    /**
+     * Default maximum duration of a slice in milliseconds
+     */
+    public static final int DEFAULT_TIME_SLICE = 50;
+
+    /**
+     * Receives the elements of the array and the end of the reading
+     *
+     * @param <E> Type of the elements
+     */
+    public interface Callback<E> extends ChunkedArrayReader.Callback<E> {
+
+        /**
+         * Called once all the elements have been delivered
+         */
+        void onComplete();
+
+        /**
+         * Called if the input cannot be read. No other method is called after.
+         *
+         * @param exception the error
+         */
+        void onFailure( RuntimeException exception );
+    }
+
+    /**
+     * Reads a JSON array asynchronously in slices of {@link #DEFAULT_TIME_SLICE} milliseconds with a reader of an {@link Iterable} of
+     * {@code E}.
+     *
+     * @param reader reader of the array created with GWT.create
+     * @param input JSON array to read
+     * @param callback callback receiving the elements and the end of the reading
+     * @param <E> Type of the elements
+     *
+     * @return the scheduled {@link AsyncArrayReader} that can be used to cancel the reading
+     * @throws JsonDeserializationException if the reader has a custom deserializer
+     */
+    public static <E> AsyncArrayReader<E> read( ObjectReader<? extends Iterable<E>> reader, String input, Callback<E> callback ) throws
+            JsonDeserializationException {
+        return read( reader, input, callback, new JsonDeserializationContext.Builder().build(), DEFAULT_TIME_SLICE );
+    }
+
+    /**
+     * Reads a JSON array asynchronously in slices of limited duration with a reader of an {@link Iterable} of {@code E}.
+     *
+     * @param reader reader of the array created with GWT.create
+     * @param input JSON array to read
+     * @param callback callback receiving the elements and the end of the reading
+     * @param ctx Context for the full reading process
+     * @param timeSlice maximum duration of a slice in milliseconds
+     * @param <E> Type of the elements
+     *
+     * @return the scheduled {@link AsyncArrayReader} that can be used to cancel the reading
+     * @throws JsonDeserializationException if the reader has a custom deserializer
+     */
+    public static <E> AsyncArrayReader<E> read( ObjectReader<? extends Iterable<E>> reader, String input, Callback<E> callback,
+                                                JsonDeserializationContext ctx, int timeSlice ) throws JsonDeserializationException {
+        JsonDeserializer<E> deserializer = AbstractObjectMapper.asMapper( reader ).getElementDeserializer( ctx );
+        AsyncArrayReader<E> result = new AsyncArrayReader<E>( input, deserializer, callback, ctx, timeSlice );
+        result.schedule();
+        return result;
+    }
+
+    private final IncrementalJsonArrayReader arrayReader = new IncrementalJsonArrayReader();
+
+    private final JsonDeserializer<E> deserializer;
+
+    private final Callback<E> callback;
+
+    private final JsonDeserializationContext ctx;
+
+    private final int timeSlice;
+
+    private boolean cancelled = false;
+
+    private boolean finished = false;
+
+    /**
+     * @param input JSON array to read
+     * @param deserializer {@link JsonDeserializer} used to read the elements
+     * @param callback callback receiving the elements
+     * @param ctx Context for the full reading process
+     * @param timeSlice maximum duration of a slice in milliseconds. At least one element is read by slice.
+     */
+    public AsyncArrayReader( String input, JsonDeserializer<E> deserializer, Callback<E> callback, JsonDeserializationContext ctx,
+                             int timeSlice ) {
+        this.deserializer = deserializer;
+        this.callback = callback;
+        this.ctx = ctx;
+        this.timeSlice = timeSlice;
+        this.arrayReader.append( input );
+        this.arrayReader.close();
+    }
+
+    /**
+     * Schedules the reading
+     */
+    public void schedule() {
+        Scheduler.get().scheduleIncremental( this );
+    }
+
+    /**
+     * Stops the reading. No more callback will be called.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return true if the reading has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return true if the reading is complete or failed
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Reads the elements until the end of the slice.
+     *
+     * @return true if there is still elements to read
+     */
+    @Override
+    public boolean execute() {
+        Duration duration = new Duration();
+        while ( !cancelled ) {
+            E value;
+            try {
+                String element = arrayReader.nextElement();
+                if ( null == element ) {
+                    finished = true;
+                    callback.onComplete();
+                    return false;
+                }
+                value = ChunkedArrayReader.readElement( element, deserializer, ctx );
+            } catch ( RuntimeException e ) {
+                finished = true;
+                callback.onFailure( e );
+                return false;
+            }
+
+            callback.onElement( value );
+            if ( duration.elapsedMillis() >= timeSlice ) {
+                return !cancelled;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.impl.IncrementalJsonArrayReader;
+
+/**
+ * Reads a JSON array given by chunks and delivers each element as soon as it is complete.
+ * <p>Example : </p>
+ * <pre>
+ * ChunkedArrayReader&lt;Person&gt; reader = ChunkedArrayReader.create( personListReader, new ChunkedArrayReader.Callback&lt;Person&gt;() {
+ *     public void onElement( Person person ) {
+ *         display( person );
+ *     }
+ * } );
+ *
+ * // for each progress event of the request
+ * reader.append( newChunk );
+ *
+ * // once the request is finished
+ * reader.end();
+ * </pre>
+ *
+ * @param <E> Type of the elements
+ *
+ * @author Nicolas Morel
+ */
+public class ChunkedArrayReader<E> {
+
+    /**
+     * Receives the elements of the array
+     *
+     * @param <E> Type of the elements
+     */
+    public interface Callback<E> {
+
+        /**
+         * Called for each element in the order of the array
+         *
+         * @param element the element read
+         */
+        void onElement( E element );
+    }
+
+    /**
+     * Starts the reading of a JSON array given by chunks with a reader of an {@link Iterable} of {@code E}.
+     *
+     * @param reader reader of the array created with GWT.create
+     * @param callback callback receiving the elements
+     * @param <E> Type of the elements
+     *
+     * @return the {@link ChunkedArrayReader} receiving the chunks
+     * @throws JsonDeserializationException if the reader has a custom deserializer
+     */
+    public static <E> ChunkedArrayReader<E> create( ObjectReader<? extends Iterable<E>> reader, Callback<E> callback ) throws
+            JsonDeserializationException {
+        return create( reader, callback, new JsonDeserializationContext.Builder().build() );
+    }
+
+    /**
+     * Starts the reading of a JSON array given by chunks with a reader of an {@link Iterable} of {@code E}.
+     *
+     * @param reader reader of the array created with GWT.create
+     * @param callback callback receiving the elements
+     * @param ctx Context for the full reading process
+     * @param <E> Type of the elements
+     *
+     * @return the {@link ChunkedArrayReader} receiving the chunks
+     * @throws JsonDeserializationException if the reader has a custom deserializer
+     */
+    public static <E> ChunkedArrayReader<E> create( ObjectReader<? extends Iterable<E>> reader, Callback<E> callback,
+                                                    JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        JsonDeserializer<E> deserializer = AbstractObjectMapper.asMapper( reader ).getElementDeserializer( ctx );
+        return new ChunkedArrayReader<E>( deserializer, callback, ctx );
+    }
+
+    private final IncrementalJsonArrayReader arrayReader = new IncrementalJsonArrayReader();
+
+    private final JsonDeserializer<E> deserializer;
+
+    private final Callback<E> callback;
+
+    private final JsonDeserializationContext ctx;
+
+    /**
+     * @param deserializer {@link JsonDeserializer} used to read the elements
+     * @param callback callback receiving the elements
+     * @param ctx Context for the full reading process
+     */
+    public ChunkedArrayReader( JsonDeserializer<E> deserializer, Callback<E> callback, JsonDeserializationContext ctx ) {
+        this.deserializer = deserializer;
+        this.callback = callback;
+        this.ctx = ctx;
+    }
+
+    /**
+     * Adds a chunk of the input and delivers the elements completed by this chunk.
+     *
+     * @param chunk the next part of the JSON input
+     *
+     * @throws JsonDeserializationException if an exception occurs while reading the input
+     */
+    public void append( String chunk ) throws JsonDeserializationException {
+        arrayReader.append( chunk );
+        flush();
+    }
+
+    /**
+     * Signals the end of the input and delivers the remaining elements.
+     *
+     * @throws JsonDeserializationException if the input is not a complete JSON array
+     */
+    public void end() throws JsonDeserializationException {
+        arrayReader.close();
+        flush();
+    }
+
+    /**
+     * @return true if the whole array has been read
+     */
+    public boolean isComplete() {
+        return arrayReader.isEndOfArray();
+    }
+
+    /**
+     * Delivers all the complete elements
+     */
+    private void flush() {
+        String element = arrayReader.nextElement();
+        while ( null != element ) {
+            callback.onElement( readElement( element, deserializer, ctx ) );
+            element = arrayReader.nextElement();
+        }
+    }
+
+    /**
+     * Deserializes an element of the array.
+     *
+     * @param element JSON representation of the element
+     * @param deserializer {@link JsonDeserializer} used to read the element
+     * @param ctx Context for the full reading process
+     * @param <E> Type of the element
+     *
+     * @return the element
+     */
+    static <E> E readElement( String element, JsonDeserializer<E> deserializer, JsonDeserializationContext ctx ) {
+        JsonReader reader = ctx.newJsonReader( element );
+        try {
+            return deserializer.deserialize( reader, ctx );
+        } catch ( JsonDeserializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( e, reader );
+        }
+    }
+}
@@ -22,9 +22,17 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.github.nmorel.gwtjackson.client.deser.bean.AbstractIdentityDeserializationInfo;
+import com.github.nmorel.gwtjackson.client.deser.bean.IdentityDeserializationInfo;
+import com.github.nmorel.gwtjackson.client.deser.bean.PropertyIdentityDeserializationInfo;
+import com.github.nmorel.gwtjackson.client.deser.bean.Projection;
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader;
 import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReader;
+import com.github.nmorel.gwtjackson.client.utils.NativeIdentityMap;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Context for the deserialization process.
@@ -43,6 +51,12 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
         private boolean wrapExceptions = true;
 
+        private boolean useNativeJsonParser = false;
+
+        private String projection;
+
+        private Class<?> activeView;
+
         /**
          * Determines whether encountering of unknown
          * properties (ones that do not map to a property, and there is
@@ -112,8 +126,47 @@ public class JsonDeserializationContext extends JsonMappingContext {
             return this;
         }
 
+        /**
+         * Feature that determines whether the input is parsed by the browser's native {@code JSON.parse} (see
+         * {@link NativeJsonReader}) instead of the character-by-character {@link NonBufferedJsonReader}.
+         * The native parser is a lot faster on large inputs but it only accepts strict JSON and all the numbers
+         * are read as JavaScript numbers, so integers greater than 2^53 lose precision.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         */
+        public Builder useNativeJsonParser( boolean useNativeJsonParser ) {
+            this.useNativeJsonParser = useNativeJsonParser;
+            return this;
+        }
+
+        /**
+         * Restricts the deserialization to the given property paths, the other properties are skipped. The paths are separated by
+         * commas and the names inside a path by dots, for example {@code items[].id,items[].name}. See {@link Projection}.
+         * <br>
+         * <br>
+         * All the properties are deserialized by default.
+         */
+        public Builder projection( String projection ) {
+            this.projection = projection;
+            return this;
+        }
+
+        /**
+         * Sets the active view. Only the properties without {@link com.fasterxml.jackson.annotation.JsonView} annotation and the
+         * ones annotated with the view or one of its parent views are deserialized, the others are skipped.
+         * <br>
+         * <br>
+         * There is no active view by default and all the properties are deserialized.
+         */
+        public Builder activeView( Class<?> activeView ) {
+            this.activeView = activeView;
+            return this;
+        }
+
         public JsonDeserializationContext build() {
-            return new JsonDeserializationContext( failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions );
+            return new JsonDeserializationContext( failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions,
+                    useNativeJsonParser, null == projection ? null : Projection.parse( projection ), activeView );
         }
     }
 
@@ -121,6 +174,11 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
     private Map<IdKey, Object> idToObject;
 
+    /**
+     * Used instead of {@link #idToObject} in script mode for the identifiers of type String, Integer and Long
+     */
+    private SimpleStringMap<Object> nativeIdToObject;
+
     /*
      * Deserialization options
      */
@@ -132,12 +190,22 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
     private final boolean wrapExceptions;
 
+    private final boolean useNativeJsonParser;
+
+    private final Projection projection;
+
+    private final Class<?> activeView;
+
     private JsonDeserializationContext( boolean failOnUnknownProperties, boolean unwrapRootValue, boolean acceptSingleValueAsArray,
-                                        boolean wrapExceptions ) {
+                                        boolean wrapExceptions, boolean useNativeJsonParser, Projection projection,
+                                        Class<?> activeView ) {
         this.failOnUnknownProperties = failOnUnknownProperties;
         this.unwrapRootValue = unwrapRootValue;
         this.acceptSingleValueAsArray = acceptSingleValueAsArray;
         this.wrapExceptions = wrapExceptions;
+        this.useNativeJsonParser = useNativeJsonParser;
+        this.projection = projection;
+        this.activeView = activeView;
     }
 
     @Override
@@ -166,8 +234,34 @@ public class JsonDeserializationContext extends JsonMappingContext {
         return acceptSingleValueAsArray;
     }
 
+    /**
+     * @see Builder#useNativeJsonParser(boolean)
+     */
+    public boolean isUseNativeJsonParser() {
+        return useNativeJsonParser;
+    }
+
+    /**
+     * @see Builder#projection(String)
+     */
+    public Projection getProjection() {
+        return projection;
+    }
+
+    /**
+     * @see Builder#activeView(Class)
+     */
+    public Class<?> getActiveView() {
+        return activeView;
+    }
+
     public JsonReader newJsonReader( String input ) {
-        JsonReader reader = new NonBufferedJsonReader( input );
+        JsonReader reader;
+        if ( useNativeJsonParser ) {
+            reader = new NativeJsonReader( input );
+        } else {
+            reader = new NonBufferedJsonReader( input );
+        }
         reader.setLenient( true );
         return reader;
     }
@@ -237,6 +331,14 @@ public class JsonDeserializationContext extends JsonMappingContext {
         }
     }
 
+    /**
+     * Clears the state of the previous deserialization, like the object ids, so the context can be reused for a new deserialization.
+     */
+    public void reset() {
+        idToObject = null;
+        nativeIdToObject = null;
+    }
+
     public void addObjectId( IdKey id, Object instance ) {
         if ( null == idToObject ) {
             idToObject = new HashMap<IdKey, Object>();
@@ -250,4 +352,86 @@ public class JsonDeserializationContext extends JsonMappingContext {
         }
         return null;
     }
+
+    /**
+     * Registers an object by its identifier. Contrary to {@link #addObjectId(IdKey, Object)}, no {@link IdKey} is created in script
+     * mode when the identifier is a String, an Integer or a Long.
+     *
+     * @param identityInfo identity informations of the object
+     * @param id identifier of the object
+     * @param instance the object
+     */
+    public void addObjectId( IdentityDeserializationInfo<?> identityInfo, Object id, Object instance ) {
+        String nativeKey = newNativeIdKey( identityInfo, id );
+        if ( null == nativeKey ) {
+            addObjectId( identityInfo.newIdKey( id ), instance );
+            return;
+        }
+        if ( null == nativeIdToObject ) {
+            nativeIdToObject = SimpleStringMap.createObject().cast();
+        }
+        nativeIdToObject.put( nativeKey, instance );
+    }
+
+    /**
+     * Returns the object registered with {@link #addObjectId(IdentityDeserializationInfo, Object, Object)}.
+     *
+     * @param identityInfo identity informations of the object
+     * @param id identifier of the object
+     *
+     * @return the object or null if there is no object with this identifier
+     */
+    public Object getObjectWithId( IdentityDeserializationInfo<?> identityInfo, Object id ) {
+        String nativeKey = newNativeIdKey( identityInfo, id );
+        if ( null == nativeKey ) {
+            return getObjectWithId( identityInfo.newIdKey( id ) );
+        }
+        if ( null != nativeIdToObject ) {
+            return nativeIdToObject.get( nativeKey );
+        }
+        return null;
+    }
+
+    /**
+     * Builds a key equivalent to the {@link IdKey} for the native map. The classes are identified by {@link
+     * NativeIdentityMap#identityId(Object)} and the identifier is prefixed by its type so 1 and "1" are different keys.
+     *
+     * @return the key or null if the identifier must be kept in a {@link IdKey}
+     */
+    private static String newNativeIdKey( IdentityDeserializationInfo<?> identityInfo, Object id ) {
+        if ( !GWT.isScript() ) {
+            return null;
+        }
+
+        Class<?> type;
+        Class<?> scope;
+        if ( identityInfo instanceof AbstractIdentityDeserializationInfo ) {
+            type = ((AbstractIdentityDeserializationInfo<?, ?>) identityInfo).getType();
+            scope = ((AbstractIdentityDeserializationInfo<?, ?>) identityInfo).getScope();
+        } else if ( identityInfo instanceof PropertyIdentityDeserializationInfo ) {
+            type = ((PropertyIdentityDeserializationInfo<?>) identityInfo).getType();
+            scope = ((PropertyIdentityDeserializationInfo<?>) identityInfo).getScope();
+        } else {
+            // custom implementation, we only know its IdKey
+            return null;
+        }
+
+        String key;
+        if ( id instanceof String ) {
+            key = "s" + id;
+        } else if ( id instanceof Integer ) {
+            key = "i" + id;
+        } else if ( id instanceof Long ) {
+            key = "l" + id;
+        } else {
+            return null;
+        }
+
+        String typeId = NativeIdentityMap.identityId( type );
+        String scopeId = null == scope ? "" : NativeIdentityMap.identityId( scope );
+        if ( null == typeId || null == scopeId ) {
+            return null;
+        }
+        return typeId + '/' + scopeId + '/' + key;
+    }
 }
@@ -58,6 +58,26 @@ public abstract class JsonDeserializer<T> {
         return doDeserialize( reader, ctx, params );
     }
 
+    /**
+     * Deserializes a JSON input into an existing object. The implementations supporting it update the given object in place, the
+     * others return a new object.
+     *
+     * @param reader {@link JsonReader} used to read the JSON input
+     * @param ctx Context for the full deserialization process
+     * @param params Parameters for this deserialization
+     * @param value object to update. If null, a new object is returned.
+     *
+     * @return the given object if it has been updated, a new object otherwise
+     * @throws JsonDeserializationException if an error occurs during the deserialization
+     */
+    public T deserializeInto( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, T value ) throws
+            JsonDeserializationException {
+        if ( null == value || JsonToken.NULL.equals( reader.peek() ) ) {
+            return deserialize( reader, ctx, params );
+        }
+        return doDeserializeInto( reader, ctx, params, value );
+    }
+
     /**
      * Deserialize the null value. This method allows children to override the default behaviour.
      *
@@ -83,6 +103,20 @@ public abstract class JsonDeserializer<T> {
      */
     protected abstract T doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params );
 
+    /**
+     * Deserializes a non-null JSON input into an existing object. By default, a new object is returned.
+     *
+     * @param reader {@link JsonReader} used to read the JSON input
+     * @param ctx Context for the full deserialization process
+     * @param params Parameters for this deserialization
+     * @param value non-null object to update
+     *
+     * @return the given object if it has been updated, a new object otherwise
+     */
+    protected T doDeserializeInto( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, T value ) {
+        return doDeserialize( reader, ctx, params );
+    }
+
     /**
      * Set the back reference.
      *
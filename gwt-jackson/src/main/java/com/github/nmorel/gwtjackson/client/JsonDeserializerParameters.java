@@ -22,6 +22,7 @@ import java.util.Set;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.github.nmorel.gwtjackson.client.deser.bean.IdentityDeserializationInfo;
+import com.github.nmorel.gwtjackson.client.deser.bean.Projection;
 import com.github.nmorel.gwtjackson.client.deser.bean.TypeDeserializationInfo;
 import com.github.nmorel.gwtjackson.client.deser.collection.ListJsonDeserializer;
 
@@ -92,6 +93,11 @@ public final class JsonDeserializerParameters {
      */
     private TypeDeserializationInfo typeInfo;
 
+    /**
+     * Properties to deserialize, the others are skipped
+     */
+    private Projection projection;
+
     public String getPattern() {
         return pattern;
     }
@@ -166,4 +172,32 @@ public final class JsonDeserializerParameters {
         this.typeInfo = typeInfo;
         return this;
     }
+
+    public Projection getProjection() {
+        return projection;
+    }
+
+    public JsonDeserializerParameters setProjection( Projection projection ) {
+        this.projection = projection;
+        return this;
+    }
+
+    /**
+     * @return a copy of these parameters
+     */
+    public JsonDeserializerParameters copy() {
+        JsonDeserializerParameters copy = new JsonDeserializerParameters();
+        copy.pattern = pattern;
+        copy.shape = shape;
+        copy.locale = locale;
+        copy.timezone = timezone;
+        if ( null != ignoredProperties ) {
+            copy.ignoredProperties = new HashSet<String>( ignoredProperties );
+        }
+        copy.ignoreUnknown = ignoreUnknown;
+        copy.identityInfo = identityInfo;
+        copy.typeInfo = typeInfo;
+        copy.projection = projection;
+        return copy;
+    }
 }
@@ -30,6 +30,9 @@ import com.github.nmorel.gwtjackson.client.ser.bean.AbstractBeanJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.ObjectIdSerializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
 import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.NativeIdentityMap;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Context for the serialization process.
@@ -64,6 +67,10 @@ public class JsonSerializationContext extends JsonMappingContext {
 
         private boolean wrapExceptions = true;
 
+        private boolean useNativeJsonStringify = false;
+
+        private Class<?> activeView;
+
         /**
          * Determines whether Object Identity is compared using
          * true JVM-level identity of Object (false); or, <code>equals()</code> method.
@@ -232,10 +239,38 @@ public class JsonSerializationContext extends JsonMappingContext {
             return this;
         }
 
+        /**
+         * Feature that determines whether the output is built as a native JavaScript tree converted to a string with the browser's
+         * native {@code JSON.stringify} (see {@link NativeJsonWriter}) instead of being appended to a {@link StringBuilder} by
+         * {@link FastJsonWriter}. The escaping of the strings and the formatting of the numbers are then done by the engine.
+         * Properties with an integer-like name may be written first since most engines order them. It is ignored when the output is
+         * written to an {@link Appendable}.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         */
+        public Builder useNativeJsonStringify( boolean useNativeJsonStringify ) {
+            this.useNativeJsonStringify = useNativeJsonStringify;
+            return this;
+        }
+
+        /**
+         * Sets the active view. Only the properties without {@link com.fasterxml.jackson.annotation.JsonView} annotation and the
+         * ones annotated with the view or one of its parent views are serialized.
+         * <br>
+         * <br>
+         * There is no active view by default and all the properties are serialized.
+         */
+        public Builder activeView( Class<?> activeView ) {
+            this.activeView = activeView;
+            return this;
+        }
+
         public JsonSerializationContext build() {
             return new JsonSerializationContext( useEqualityForObjectId, serializeNulls, writeDatesAsTimestamps,
                     writeDateKeysAsTimestamps, indent, wrapRootValue, writeCharArraysAsJsonArrays, writeNullMapValues,
-                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions );
+                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions, useNativeJsonStringify,
+                    activeView );
         }
     }
 
@@ -243,6 +278,22 @@ public class JsonSerializationContext extends JsonMappingContext {
 
     private Map<Object, ObjectIdSerializer<?>> mapObjectId;
 
+    /**
+     * Used instead of {@link #mapObjectId} in script mode when the identity is used to compare the objects
+     */
+    private NativeIdentityMap<ObjectIdSerializer<?>> nativeMapObjectId;
+
+    /**
+     * Objects refused by {@link #nativeMapObjectId} because they are frozen or not extensible. They are compared by identity in a
+     * list since {@link IdentityHashMap} also stores the identity hash code in an expando property in script mode.
+     */
+    private List<Object> frozenObjects;
+
+    /**
+     * Ids of the {@link #frozenObjects}, at the same index
+     */
+    private List<ObjectIdSerializer<?>> frozenObjectIds;
+
     private List<ObjectIdGenerator<?>> generators;
 
     /*
@@ -272,10 +323,15 @@ public class JsonSerializationContext extends JsonMappingContext {
 
     private final boolean wrapExceptions;
 
+    private final boolean useNativeJsonStringify;
+
+    private final Class<?> activeView;
+
     private JsonSerializationContext( boolean useEqualityForObjectId, boolean serializeNulls, boolean writeDatesAsTimestamps,
                                       boolean writeDateKeysAsTimestamps, boolean indent, boolean wrapRootValue,
                                       boolean writeCharArraysAsJsonArrays, boolean writeNullMapValues, boolean writeEmptyJsonArrays,
-                                      boolean orderMapEntriesByKeys, boolean writeSingleElemArraysUnwrapped, boolean wrapExceptions ) {
+                                      boolean orderMapEntriesByKeys, boolean writeSingleElemArraysUnwrapped, boolean wrapExceptions,
+                                      boolean useNativeJsonStringify, Class<?> activeView ) {
         this.useEqualityForObjectId = useEqualityForObjectId;
         this.serializeNulls = serializeNulls;
         this.writeDatesAsTimestamps = writeDatesAsTimestamps;
@@ -288,6 +344,8 @@ public class JsonSerializationContext extends JsonMappingContext {
         this.orderMapEntriesByKeys = orderMapEntriesByKeys;
         this.writeSingleElemArraysUnwrapped = writeSingleElemArraysUnwrapped;
         this.wrapExceptions = wrapExceptions;
+        this.useNativeJsonStringify = useNativeJsonStringify;
+        this.activeView = activeView;
     }
 
     @Override
@@ -351,8 +409,43 @@ public class JsonSerializationContext extends JsonMappingContext {
         return writeSingleElemArraysUnwrapped;
     }
 
+    /**
+     * @see Builder#useNativeJsonStringify(boolean)
+     */
+    public boolean isUseNativeJsonStringify() {
+        return useNativeJsonStringify;
+    }
+
+    /**
+     * @see Builder#activeView(Class)
+     */
+    public Class<?> getActiveView() {
+        return activeView;
+    }
+
     public JsonWriter newJsonWriter() {
-        JsonWriter writer = new FastJsonWriter( new StringBuilder() );
+        JsonWriter writer;
+        if ( useNativeJsonStringify ) {
+            writer = new NativeJsonWriter();
+        } else {
+            writer = new FastJsonWriter( new StringBuilder() );
+        }
+        return configure( writer );
+    }
+
+    /**
+     * Creates a {@link JsonWriter} appending its output to the given sink. The output is never fully held in memory so
+     * {@link Builder#useNativeJsonStringify(boolean)} is ignored.
+     *
+     * @param output destination of the output
+     *
+     * @return a new {@link JsonWriter}
+     */
+    public JsonWriter newJsonWriter( Appendable output ) {
+        return configure( new FastJsonWriter( output ) );
+    }
+
+    private JsonWriter configure( JsonWriter writer ) {
         writer.setLenient( true );
         writer.setSerializeNulls( serializeNulls );
         if ( indent ) {
@@ -432,7 +525,32 @@ public class JsonSerializationContext extends JsonMappingContext {
         }
     }
 
+    /**
+     * Clears the state of the previous serialization, like the object ids, so the context can be reused for a new serialization.
+     */
+    public void reset() {
+        mapObjectId = null;
+        nativeMapObjectId = null;
+        frozenObjects = null;
+        frozenObjectIds = null;
+        generators = null;
+    }
+
     public void addObjectId( Object object, ObjectIdSerializer<?> id ) {
+        if ( !useEqualityForObjectId && GWT.isScript() ) {
+            if ( null == nativeMapObjectId ) {
+                nativeMapObjectId = NativeIdentityMap.create();
+            }
+            if ( !nativeMapObjectId.put( object, id ) ) {
+                if ( null == frozenObjects ) {
+                    frozenObjects = new ArrayList<Object>();
+                    frozenObjectIds = new ArrayList<ObjectIdSerializer<?>>();
+                }
+                frozenObjects.add( object );
+                frozenObjectIds.add( id );
+            }
+            return;
+        }
         if ( null == mapObjectId ) {
             if ( useEqualityForObjectId ) {
                 mapObjectId = new HashMap<Object, ObjectIdSerializer<?>>();
@@ -444,6 +562,17 @@ public class JsonSerializationContext extends JsonMappingContext {
     }
 
     public ObjectIdSerializer<?> getObjectId( Object object ) {
+        if ( null != nativeMapObjectId ) {
+            ObjectIdSerializer<?> id = nativeMapObjectId.get( object );
+            if ( null == id && null != frozenObjects ) {
+                for ( int i = 0; i < frozenObjects.size(); i++ ) {
+                    if ( frozenObjects.get( i ) == object ) {
+                        return frozenObjectIds.get( i );
+                    }
+                }
+            }
+            return id;
+        }
         if ( null != mapObjectId ) {
             return mapObjectId.get( object );
         }
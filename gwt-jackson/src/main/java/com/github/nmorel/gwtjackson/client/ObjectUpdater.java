@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+
+/**
+ * Reads a JSON input into an existing object instead of allocating a new one. The beans instantiated with their default constructor
+ * are updated in place, their properties with a visible getter are themselves updated in place and the collections and maps are
+ * refilled. The other values are replaced by new ones.
+ * <p>Example : </p>
+ * <pre>
+ * model = ObjectUpdater.readInto( modelReader, json, model );
+ * </pre>
+ *
+ * @author Nicolas Morel
+ */
+public final class ObjectUpdater {
+
+    /**
+     * Reads a JSON input into an existing object with a reader created with GWT.create.
+     *
+     * @param reader reader of the object created with GWT.create
+     * @param input JSON input to read
+     * @param value object to update. If null, a new object is returned.
+     * @param <T> Type of the object
+     *
+     * @return the given object if it has been updated, a new object otherwise
+     * @throws JsonDeserializationException if an exception occurs while reading the input
+     */
+    public static <T> T readInto( ObjectReader<T> reader, String input, T value ) throws JsonDeserializationException {
+        return AbstractObjectMapper.<T>asMapper( reader ).readInto( input, value );
+    }
+
+    /**
+     * Reads a JSON input into an existing object with a reader created with GWT.create.
+     *
+     * @param reader reader of the object created with GWT.create
+     * @param input JSON input to read
+     * @param ctx Context for the full reading process
+     * @param value object to update. If null, a new object is returned.
+     * @param <T> Type of the object
+     *
+     * @return the given object if it has been updated, a new object otherwise
+     * @throws JsonDeserializationException if an exception occurs while reading the input
+     */
+    public static <T> T readInto( ObjectReader<T> reader, String input, JsonDeserializationContext ctx, T value ) throws
+            JsonDeserializationException {
+        return AbstractObjectMapper.<T>asMapper( reader ).readInto( input, ctx, value );
+    }
+
+    private ObjectUpdater() { }
+}
@@ -26,6 +26,7 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.client.utils.DateFormat;
+import com.github.nmorel.gwtjackson.client.utils.Iso8601DateFormat;
 import com.google.gwt.i18n.client.DateTimeFormat;
 
 /**
@@ -85,7 +86,10 @@ public abstract class BaseDateJsonDeserializer<D extends Date> extends JsonDeser
 
         @Override
         protected java.sql.Date deserializeString( String date, JsonDeserializerParameters params ) {
-            Date d = SQL_DATE_FORMAT.parse( date + " +0000" );
+            Date d = Iso8601DateFormat.parseDate( date );
+            if ( null == d ) {
+                d = SQL_DATE_FORMAT.parse( date + " +0000" );
+            }
             return new java.sql.Date( d.getTime() );
         }
     }
@@ -19,6 +19,7 @@ package com.github.nmorel.gwtjackson.client.deser;
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 
 /**
@@ -37,24 +38,76 @@ public class EnumJsonDeserializer<E extends Enum<E>> extends JsonDeserializer<E>
      * @return a new instance of {@link EnumJsonDeserializer}
      */
     public static <E extends Enum<E>> EnumJsonDeserializer<E> newInstance( Class<E> enumClass ) {
-        return new EnumJsonDeserializer<E>( enumClass );
+        return new EnumJsonDeserializer<E>( enumClass, null );
+    }
+
+    /**
+     * @param enumClass class of the enumeration
+     * @param values constants of the enumeration used to build the lookup table by name
+     * @param <E> Type of the enum
+     *
+     * @return a new instance of {@link EnumJsonDeserializer}
+     */
+    public static <E extends Enum<E>> EnumJsonDeserializer<E> newInstance( Class<E> enumClass, E[] values ) {
+        return new EnumJsonDeserializer<E>( enumClass, values );
     }
 
     private final Class<E> enumClass;
 
+    /**
+     * Constants indexed by name or null if the constants were not given
+     */
+    private final SimpleStringMap<E> constants;
+
     /**
      * @param enumClass class of the enumeration
      */
     protected EnumJsonDeserializer( Class<E> enumClass ) {
+        this( enumClass, null );
+    }
+
+    /**
+     * @param enumClass class of the enumeration
+     * @param values constants of the enumeration or null to use {@link Enum#valueOf(Class, String)}
+     */
+    protected EnumJsonDeserializer( Class<E> enumClass, E[] values ) {
         if ( null == enumClass ) {
             throw new IllegalArgumentException( "enumClass cannot be null" );
         }
         this.enumClass = enumClass;
+        this.constants = newConstantsMap( values );
+    }
+
+    /**
+     * Builds the lookup table of the constants by name.
+     *
+     * @param values constants of the enumeration
+     * @param <E> Type of the enum
+     *
+     * @return the constants indexed by name or null if no constants are given
+     */
+    public static <E extends Enum<E>> SimpleStringMap<E> newConstantsMap( E[] values ) {
+        if ( null == values ) {
+            return null;
+        }
+        SimpleStringMap<E> map = SimpleStringMap.createObject().cast();
+        for ( E value : values ) {
+            map.put( value.name(), value );
+        }
+        return map;
     }
 
     @Override
     public E doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        return Enum.valueOf( enumClass, reader.nextString() );
+        String name = reader.nextString();
+        if ( null != constants ) {
+            E value = constants.get( name );
+            if ( null != value ) {
+                return value;
+            }
+        }
+        // unknown names fail the same way with or without the lookup table
+        return Enum.valueOf( enumClass, name );
     }
 
     public Class<E> getEnumClass() {
@@ -62,7 +62,7 @@ public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeseria
     @Override
     protected byte[] doDeserializeNonArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         if ( JsonToken.STRING == reader.peek() ) {
-            return Base64.decode( reader.nextString() ).getBytes();
+            return Base64.decodeBytes( reader.nextString() );
         } else if ( ctx.isAcceptSingleValueAsArray() ) {
             return doDeserializeSingleArray( reader, ctx, params );
         } else {
@@ -16,13 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.LongJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of long.
@@ -40,20 +39,37 @@ public class PrimitiveLongArrayJsonDeserializer extends AbstractArrayJsonDeseria
         return INSTANCE;
     }
 
+    private static long DEFAULT;
+
     private PrimitiveLongArrayJsonDeserializer() { }
 
     @Override
     public long[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Long> list = deserializeIntoList( reader, ctx, LongJsonDeserializer.getInstance(), params );
+        // the values are read directly into the array to avoid boxing each of them into a Long
+        long[] values = new long[16];
+        int size = 0;
 
-        long[] result = new long[list.size()];
-        int i = 0;
-        for ( Long value : list ) {
-            if ( null != value ) {
-                result[i] = value;
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( size == values.length ) {
+                long[] newValues = new long[size * 2];
+                System.arraycopy( values, 0, newValues, 0, size );
+                values = newValues;
+            }
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                values[size++] = DEFAULT;
+            } else {
+                values[size++] = reader.nextLong();
             }
-            i++;
         }
+        reader.endArray();
+
+        if ( size == values.length ) {
+            return values;
+        }
+        long[] result = new long[size];
+        System.arraycopy( values, 0, result, 0, size );
         return result;
     }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.array.AbstractArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+
+/**
+ * Base implementation of {@link JsonDeserializer} for 2D array of primitives. Each row is read by the deserializer of the 1D array
+ * so the rows are not copied. The rows keep their own length.
+ *
+ * @param <R> type of a row
+ *
+ * @author Nicolas Morel
+ */
+public abstract class AbstractArray2dJsonDeserializer<R> extends AbstractArrayJsonDeserializer<R[]> {
+
+    private final JsonDeserializer<R> rowDeserializer;
+
+    private final R[] emptyArray;
+
+    /**
+     * @param rowDeserializer deserializer for a row
+     * @param emptyArray an empty 2D array used to create the result
+     */
+    protected AbstractArray2dJsonDeserializer( JsonDeserializer<R> rowDeserializer, R[] emptyArray ) {
+        this.rowDeserializer = rowDeserializer;
+        this.emptyArray = emptyArray;
+    }
+
+    @Override
+    public R[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        reader.beginArray();
+        List<R> rows = new ArrayList<R>();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            rows.add( rowDeserializer.deserialize( reader, ctx, params ) );
+        }
+        reader.endArray();
+        return rows.toArray( emptyArray );
+    }
+
+    @Override
+    protected R[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        // the row deserializer also accepts the single value as a row
+        List<R> rows = new ArrayList<R>( 1 );
+        rows.add( rowDeserializer.deserialize( reader, ctx, params ) );
+        return rows.toArray( emptyArray );
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Turns JavaScript arrays into Java arrays without copying their elements. Only usable in compiled mode.
+ *
+ * @author Nicolas Morel
+ */
+final class JsArrayCast {
+
+    /**
+     * In compiled mode, a Java array is a JavaScript array carrying a few expandos (class, castable types, query id and the methods
+     * of {@link Object}). A raw JavaScript array fails the casts to its Java type so we copy those expandos from an empty array of
+     * the expected type.
+     *
+     * @param jsArray the JavaScript array
+     * @param emptyArray an empty Java array of the expected type
+     * @param <T> type of the Java array
+     *
+     * @return the JavaScript array typed as a Java array
+     */
+    static native <T> T reinterpretCast( JavaScriptObject jsArray, T emptyArray ) /*-{
+        for (var name in emptyArray) {
+            if (emptyArray.hasOwnProperty(name)) {
+                jsArray[name] = emptyArray[name];
+            }
+        }
+        return jsArray;
+    }-*/;
+
+    private JsArrayCast() { }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+
+/**
+ * Default {@link JsonDeserializer} implementation for 2D array of boolean.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitiveBooleanArray2dJsonDeserializer extends AbstractArray2dJsonDeserializer<boolean[]> {
+
+    private static final PrimitiveBooleanArray2dJsonDeserializer INSTANCE = new PrimitiveBooleanArray2dJsonDeserializer();
+
+    /**
+     * @return an instance of {@link PrimitiveBooleanArray2dJsonDeserializer}
+     */
+    public static PrimitiveBooleanArray2dJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private PrimitiveBooleanArray2dJsonDeserializer() {
+        super( PrimitiveBooleanArrayJsonDeserializer.getInstance(), new boolean[0][] );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.AbstractArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsArrayBoolean;
+
+/**
+ * Default {@link JsonDeserializer} implementation for array of boolean.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitiveBooleanArrayJsonDeserializer extends AbstractArrayJsonDeserializer<boolean[]> {
+
+    private static final PrimitiveBooleanArrayJsonDeserializer INSTANCE = new PrimitiveBooleanArrayJsonDeserializer();
+
+    /**
+     * @return an instance of {@link PrimitiveBooleanArrayJsonDeserializer}
+     */
+    public static PrimitiveBooleanArrayJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private static final boolean[] EMPTY = new boolean[0];
+
+    private static boolean DEFAULT;
+
+    private PrimitiveBooleanArrayJsonDeserializer() { }
+
+    @Override
+    public boolean[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        JsArrayBoolean jsArray = JsArrayBoolean.createArray().cast();
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                jsArray.push( DEFAULT );
+            } else if ( JsonToken.BOOLEAN == reader.peek() ) {
+                jsArray.push( reader.nextBoolean() );
+            } else {
+                Boolean value = BooleanJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+                jsArray.push( null == value ? DEFAULT : value );
+            }
+        }
+        reader.endArray();
+
+        if ( GWT.isScript() ) {
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
+        } else {
+            int length = jsArray.length();
+            boolean[] ret = new boolean[length];
+            for ( int i = 0; i < length; i++ ) {
+                ret[i] = jsArray.get( i );
+            }
+            return ret;
+        }
+    }
+
+    @Override
+    protected boolean[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        return new boolean[]{BooleanJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
+    }
+}
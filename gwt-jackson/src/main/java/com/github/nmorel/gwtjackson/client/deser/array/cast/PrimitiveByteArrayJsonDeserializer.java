@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.ByteJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.AbstractArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.utils.Base64;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsArrayInteger;
+
+/**
+ * Default {@link JsonDeserializer} implementation for array of byte.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeserializer<byte[]> {
+
+    private static final PrimitiveByteArrayJsonDeserializer INSTANCE = new PrimitiveByteArrayJsonDeserializer();
+
+    /**
+     * @return an instance of {@link PrimitiveByteArrayJsonDeserializer}
+     */
+    public static PrimitiveByteArrayJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static byte DEFAULT;
+
+    private PrimitiveByteArrayJsonDeserializer() { }
+
+    @Override
+    public byte[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        JsArrayInteger jsArray = JsArrayInteger.createArray().cast();
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                jsArray.push( DEFAULT );
+            } else {
+                jsArray.push( (byte) reader.nextInt() );
+            }
+        }
+        reader.endArray();
+
+        if ( GWT.isScript() ) {
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
+        } else {
+            int length = jsArray.length();
+            byte[] ret = new byte[length];
+            for ( int i = 0; i < length; i++ ) {
+                ret[i] = (byte) jsArray.get( i );
+            }
+            return ret;
+        }
+    }
+
+    @Override
+    protected byte[] doDeserializeNonArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( JsonToken.STRING == reader.peek() ) {
+            return Base64.decodeBytes( reader.nextString() );
+        } else if ( ctx.isAcceptSingleValueAsArray() ) {
+            return doDeserializeSingleArray( reader, ctx, params );
+        } else {
+            throw ctx.traceError( "Cannot deserialize a byte[] out of " + reader.peek() + " token", reader );
+        }
+    }
+
+    @Override
+    protected byte[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        return new byte[]{ByteJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
+    }
+}
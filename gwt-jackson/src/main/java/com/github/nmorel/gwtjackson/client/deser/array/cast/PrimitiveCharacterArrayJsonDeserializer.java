@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.CharacterJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.AbstractArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsArrayInteger;
+
+/**
+ * Default {@link JsonDeserializer} implementation for array of char.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitiveCharacterArrayJsonDeserializer extends AbstractArrayJsonDeserializer<char[]> {
+
+    private static final PrimitiveCharacterArrayJsonDeserializer INSTANCE = new PrimitiveCharacterArrayJsonDeserializer();
+
+    /**
+     * @return an instance of {@link PrimitiveCharacterArrayJsonDeserializer}
+     */
+    public static PrimitiveCharacterArrayJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private static final char[] EMPTY = new char[0];
+
+    private static char DEFAULT;
+
+    private PrimitiveCharacterArrayJsonDeserializer() { }
+
+    @Override
+    public char[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        JsArrayInteger jsArray = JsArrayInteger.createArray().cast();
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                jsArray.push( DEFAULT );
+            } else if ( JsonToken.NUMBER == reader.peek() ) {
+                jsArray.push( (char) reader.nextInt() );
+            } else {
+                String value = reader.nextString();
+                jsArray.push( value.isEmpty() ? DEFAULT : value.charAt( 0 ) );
+            }
+        }
+        reader.endArray();
+
+        if ( GWT.isScript() ) {
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
+        } else {
+            int length = jsArray.length();
+            char[] ret = new char[length];
+            for ( int i = 0; i < length; i++ ) {
+                ret[i] = (char) jsArray.get( i );
+            }
+            return ret;
+        }
+    }
+
+    @Override
+    protected char[] doDeserializeNonArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( JsonToken.STRING == reader.peek() ) {
+            return reader.nextString().toCharArray();
+        } else if ( ctx.isAcceptSingleValueAsArray() ) {
+            return doDeserializeSingleArray( reader, ctx, params );
+        } else {
+            throw ctx.traceError( "Cannot deserialize a char[] out of " + reader.peek() + " token", reader );
+        }
+    }
+
+    @Override
+    protected char[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        return new char[]{CharacterJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
+    }
+}
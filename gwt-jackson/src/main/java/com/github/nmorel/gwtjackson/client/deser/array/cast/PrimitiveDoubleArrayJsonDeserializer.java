@@ -42,9 +42,7 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
         return INSTANCE;
     }
 
-    private static native double[] reinterpretCast( JsArrayNumber value ) /*-{
-        return value;
-    }-*/;
+    private static final double[] EMPTY = new double[0];
 
     private static double DEFAULT;
 
@@ -65,7 +63,7 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
         reader.endArray();
 
         if ( GWT.isScript() ) {
-            return reinterpretCast( jsArray );
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
         } else {
             int length = jsArray.length();
             double[] ret = new double[length];
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+
+/**
+ * Default {@link JsonDeserializer} implementation for 2D array of float.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitiveFloatArray2dJsonDeserializer extends AbstractArray2dJsonDeserializer<float[]> {
+
+    private static final PrimitiveFloatArray2dJsonDeserializer INSTANCE = new PrimitiveFloatArray2dJsonDeserializer();
+
+    /**
+     * @return an instance of {@link PrimitiveFloatArray2dJsonDeserializer}
+     */
+    public static PrimitiveFloatArray2dJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private PrimitiveFloatArray2dJsonDeserializer() {
+        super( PrimitiveFloatArrayJsonDeserializer.getInstance(), new float[0][] );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.AbstractArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsArrayNumber;
+
+/**
+ * Default {@link JsonDeserializer} implementation for array of float.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeserializer<float[]> {
+
+    private static final PrimitiveFloatArrayJsonDeserializer INSTANCE = new PrimitiveFloatArrayJsonDeserializer();
+
+    /**
+     * @return an instance of {@link PrimitiveFloatArrayJsonDeserializer}
+     */
+    public static PrimitiveFloatArrayJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private static final float[] EMPTY = new float[0];
+
+    private static float DEFAULT;
+
+    private PrimitiveFloatArrayJsonDeserializer() { }
+
+    @Override
+    public float[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        JsArrayNumber jsArray = JsArrayNumber.createArray().cast();
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                jsArray.push( DEFAULT );
+            } else {
+                jsArray.push( Float.parseFloat( reader.nextString() ) );
+            }
+        }
+        reader.endArray();
+
+        if ( GWT.isScript() ) {
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
+        } else {
+            int length = jsArray.length();
+            float[] ret = new float[length];
+            for ( int i = 0; i < length; i++ ) {
+                ret[i] = (float) jsArray.get( i );
+            }
+            return ret;
+        }
+    }
+
+    @Override
+    protected float[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        return new float[]{FloatJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
+    }
+}
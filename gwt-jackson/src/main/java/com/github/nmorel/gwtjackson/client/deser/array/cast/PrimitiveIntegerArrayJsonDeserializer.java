@@ -42,9 +42,7 @@ public class PrimitiveIntegerArrayJsonDeserializer extends AbstractArrayJsonDese
         return INSTANCE;
     }
 
-    private static native int[] reinterpretCast( JsArrayInteger value ) /*-{
-        return value;
-    }-*/;
+    private static final int[] EMPTY = new int[0];
 
     private static int DEFAULT;
 
@@ -65,7 +63,7 @@ public class PrimitiveIntegerArrayJsonDeserializer extends AbstractArrayJsonDese
         reader.endArray();
 
         if ( GWT.isScript() ) {
-            return reinterpretCast( jsArray );
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
         } else {
             int length = jsArray.length();
             int[] ret = new int[length];
@@ -42,9 +42,7 @@ public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeseri
         return INSTANCE;
     }
 
-    private static native short[] reinterpretCast( JsArrayInteger value ) /*-{
-        return value;
-    }-*/;
+    private static final short[] EMPTY = new short[0];
 
     private static short DEFAULT;
 
@@ -65,7 +63,7 @@ public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeseri
         reader.endArray();
 
         if ( GWT.isScript() ) {
-            return reinterpretCast( jsArray );
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
         } else {
             int length = jsArray.length();
             short[] ret = new short[length];
@@ -42,9 +42,7 @@ public class StringArrayJsonDeserializer extends AbstractArrayJsonDeserializer<S
         return INSTANCE;
     }
 
-    private static native String[] reinterpretCast( JsArrayString value ) /*-{
-        return value;
-    }-*/;
+    private static final String[] EMPTY = new String[0];
 
     private StringArrayJsonDeserializer() { }
 
@@ -63,7 +61,7 @@ public class StringArrayJsonDeserializer extends AbstractArrayJsonDeserializer<S
         reader.endArray();
 
         if ( GWT.isScript() ) {
-            return reinterpretCast( jsArray );
+            return JsArrayCast.reinterpretCast( jsArray, EMPTY );
         } else {
             int length = jsArray.length();
             String[] ret = new String[length];
@@ -65,7 +65,7 @@ public class PrimitiveByteArray2dJsonDeserializer extends AbstractArray2dJsonDes
             List<byte[]> list = new ArrayList<byte[]>();
             int size = 0;
             while ( JsonToken.END_ARRAY != token ) {
-                byte[] decoded = Base64.decode( reader.nextString() ).getBytes();
+                byte[] decoded = Base64.decodeBytes( reader.nextString() );
                 size = Math.max( size, decoded.length );
                 list.add( decoded );
                 token = reader.peek();
@@ -16,13 +16,17 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
@@ -48,18 +52,38 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private final Set<String> requiredProperties;
 
+    private final int requiredPropertiesMask;
+
     private final IdentityDeserializationInfo<T> defaultIdentityInfo;
 
     private final TypeDeserializationInfo<T> defaultTypeInfo;
 
     private final Map<Class, SubtypeDeserializer> subtypeClassToDeserializer;
 
+    /**
+     * Last parameters with ignored properties and their merge with {@link #defaultIgnoredProperties}
+     */
+    private JsonDeserializerParameters lastParamsWithIgnoredProperties;
+
+    private Set<String> lastIgnoredProperties;
+
+    /**
+     * Names of the properties in the order of the values when the bean is written as a json array
+     */
+    private String[] arrayPropertyNames;
+
+    /**
+     * Deserializers of the properties in the order of the values when the bean is written as a json array
+     */
+    private BeanPropertyDeserializer<T, ?>[] arrayPropertyDeserializers;
+
     protected AbstractBeanJsonDeserializer() {
         this.instanceBuilder = initInstanceBuilder();
         this.deserializers = initDeserializers();
         this.backReferenceDeserializers = initBackReferenceDeserializers();
         this.defaultIgnoredProperties = initIgnoredProperties();
         this.requiredProperties = initRequiredProperties();
+        this.requiredPropertiesMask = initRequiredPropertiesMask();
         this.defaultIdentityInfo = initIdentityInfo();
         this.defaultTypeInfo = initTypeInfo();
         this.subtypeClassToDeserializer = initMapSubtypeClassToDeserializer();
@@ -80,6 +104,16 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return SimpleStringMap.createObject().cast();
     }
 
+    /**
+     * Returns the deserializer of a property or null if there is no property with this name. The generated deserializers override it
+     * with a dispatch on the name computed at compile time instead of the map returned by {@link #initDeserializers()}.
+     *
+     * @param propertyName name of the property
+     */
+    protected BeanPropertyDeserializer<T, ?> findPropertyDeserializer( String propertyName ) {
+        return deserializers.get( propertyName );
+    }
+
     /**
      * Initialize the {@link SimpleStringMap} containing the back reference deserializers. Returns an empty map if there are no back
      * reference on the bean.
@@ -102,6 +136,24 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return Collections.emptySet();
     }
 
+    /**
+     * Initialize the mask of the required properties. Each required property has its own bit returned by {@link
+     * BeanPropertyDeserializer#getRequiredBit()} and the bits are cleared as the properties are read. Returns 0 if there are no
+     * required properties or if they have no bit, in which case the names returned by {@link #initRequiredProperties()} are tracked in
+     * a {@link Set}.
+     */
+    protected int initRequiredPropertiesMask() {
+        return 0;
+    }
+
+    /**
+     * Initialize the names of the properties in the order of their values when the bean is written as a json array. Returns an empty
+     * array if there are no properties.
+     */
+    protected String[] initArrayPropertyNames() {
+        return new String[0];
+    }
+
     /**
      * Initialize the {@link IdentityDeserializationInfo}. Returns null if there is no {@link JsonIdentityInfo} annotation on bean.
      */
@@ -132,10 +184,35 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return false;
     }
 
+    /**
+     * Whether the bean is read from a json array of its property values when the parameters do not give a shape. The generated
+     * deserializers override it when the bean is annotated with {@link JsonFormat} and the shape {@link Shape#ARRAY}.
+     */
+    protected boolean isDefaultArrayShape() {
+        return false;
+    }
+
     public abstract Class getDeserializedType();
 
+    /**
+     * Whether an existing bean can be updated in place. It is only the case when the bean is instantiated with its default
+     * constructor, the properties given to a constructor or a factory method cannot be set on an existing bean.
+     */
+    protected boolean isUpdatable() {
+        return false;
+    }
+
     @Override
     public T doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        return deserializeBean( reader, ctx, params, null );
+    }
+
+    @Override
+    protected T doDeserializeInto( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, T value ) {
+        return deserializeBean( reader, ctx, params, value );
+    }
+
+    private T deserializeBean( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, T value ) {
 
         // Processing the parameters. We fallback to default if parameter is not present.
         final IdentityDeserializationInfo identityInfo = null == params.getIdentityInfo() ? defaultIdentityInfo : params.getIdentityInfo();
@@ -145,12 +222,12 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         if ( null != identityInfo && !JsonToken.BEGIN_OBJECT.equals( reader.peek() ) ) {
             Object id;
             if ( identityInfo.isProperty() ) {
-                BeanPropertyDeserializer<T, ?> propertyDeserializer = deserializers.get( identityInfo.getPropertyName() );
+                BeanPropertyDeserializer<T, ?> propertyDeserializer = findPropertyDeserializer( identityInfo.getPropertyName() );
                 id = propertyDeserializer.getDeserializer().deserialize( reader, ctx );
             } else {
                 id = identityInfo.readId( reader, ctx );
             }
-            Object instance = ctx.getObjectWithId( identityInfo.newIdKey( id ) );
+            Object instance = ctx.getObjectWithId( identityInfo, id );
             if ( null == instance ) {
                 throw ctx.traceError( "Cannot find an object with id " + id, reader );
             }
@@ -162,9 +239,11 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         if ( null != typeInfo ) {
             switch ( typeInfo.getInclude() ) {
                 case PROPERTY:
-                    // the type info is the first property of the object
+                    // the type info is usually the first property of the object. If it is not, we look ahead for it and come back to
+                    // read the properties before it once the deserializer of the subtype is known
                     reader.beginObject();
-                    Map<String, String> bufferedProperties = null;
+                    reader.mark();
+                    boolean firstProperty = true;
                     String typeInfoProperty = null;
                     while ( JsonToken.NAME.equals( reader.peek() ) ) {
                         String name = reader.nextName();
@@ -173,17 +252,18 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                             typeInfoProperty = reader.nextString();
                             break;
                         } else {
-                            if ( null == bufferedProperties ) {
-                                bufferedProperties = new HashMap<String, String>();
-                            }
-                            bufferedProperties.put( name, reader.nextValue() );
+                            firstProperty = false;
+                            reader.skipValue();
                         }
                     }
                     if ( null == typeInfoProperty ) {
                         throw ctx.traceError( "Cannot find the property " + typeInfo
                                 .getPropertyName() + " containing the type information", reader );
                     }
-                    result = deserializeSubtype( reader, ctx, params, identityInfo, typeInfo, typeInfoProperty, bufferedProperties );
+                    if ( !firstProperty ) {
+                        reader.rewind();
+                    }
+                    result = deserializeSubtype( reader, ctx, params, identityInfo, typeInfo, typeInfoProperty, null, value );
                     reader.endObject();
                     break;
 
@@ -193,7 +273,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     reader.beginObject();
                     String typeInfoWrapObj = reader.nextName();
                     reader.beginObject();
-                    result = deserializeSubtype( reader, ctx, params, identityInfo, typeInfo, typeInfoWrapObj, null );
+                    result = deserializeSubtype( reader, ctx, params, identityInfo, typeInfo, typeInfoWrapObj, null, value );
                     reader.endObject();
                     reader.endObject();
                     break;
@@ -204,7 +284,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     reader.beginArray();
                     String typeInfoWrapArray = reader.nextString();
                     reader.beginObject();
-                    result = deserializeSubtype( reader, ctx, params, identityInfo, typeInfo, typeInfoWrapArray, null );
+                    result = deserializeSubtype( reader, ctx, params, identityInfo, typeInfo, typeInfoWrapArray, null, value );
                     reader.endObject();
                     reader.endArray();
                     break;
@@ -212,9 +292,14 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 default:
                     throw ctx.traceError( "JsonTypeInfo.As." + typeInfo.getInclude() + " is not supported", reader );
             }
+        } else if ( null != instanceBuilder && null == identityInfo && !JsonToken.BEGIN_OBJECT.equals( reader.peek() ) && (Shape.ARRAY ==
+                params.getShape() || (Shape.ANY == params.getShape() && isDefaultArrayShape())) ) {
+            // like Jackson, the array shape is not used when the bean has an identity or type information. A json object is still
+            // accepted.
+            result = deserializeArray( reader, ctx, params, value );
         } else if ( null != instanceBuilder ) {
             reader.beginObject();
-            result = deserializeObject( reader, ctx, params, identityInfo, null, null, null );
+            result = deserializeObject( reader, ctx, params, identityInfo, null, null, null, value );
             reader.endObject();
         } else {
             throw ctx.traceError( "Cannot instantiate the type " + getDeserializedType().getName(), reader );
@@ -229,27 +314,31 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
      * @param reader reader
      * @param ctx context of the deserialization process
      * @param type in case of a subtype, it's the corresponding type value
-     * @param bufferedProperties Buffered properties in case the type info property was not in 1st position
+     * @param bufferedProperties Buffered properties or null
+     * @param value existing bean to update or null to instantiate a new one
      */
     public final T deserializeObject( final JsonReader reader, final JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                       IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String type,
-                                      Map<String, String> bufferedProperties ) {
+                                      Map<String, JsonReader> bufferedProperties, T value ) {
         final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown();
-        final Set<String> ignoredProperties;
-        if ( null == params.getIgnoredProperties() ) {
-            ignoredProperties = defaultIgnoredProperties;
-        } else {
-            ignoredProperties = new HashSet<String>( defaultIgnoredProperties );
-            ignoredProperties.addAll( params.getIgnoredProperties() );
-        }
-
-        // we will remove the properties read from this list and check at the end it's empty
-        Set<String> requiredPropertiesLeft = requiredProperties.isEmpty() ? Collections
-                .<String>emptySet() : new HashSet<String>( requiredProperties );
+        final Set<String> ignoredProperties = getIgnoredProperties( params );
+        // the type info property has already been read but it is read again if the reader has been rewound to the beginning of the object
+        final String typeInfoPropertyName = null != typeInfo && JsonTypeInfo.As.PROPERTY == typeInfo.getInclude() && null != type ?
+                typeInfo.getPropertyName() : null;
+        final Projection projection = params.getProjection();
+        final Class<?> view = ctx.getActiveView();
+
+        // we will clear the bits of the properties read and check at the end that no bit is left. The names are only tracked when the
+        // required properties have no bit. The required properties are not checked when only a projection is read.
+        int requiredPropertiesLeft = null == projection ? requiredPropertiesMask : 0;
+        Set<String> requiredPropertyNamesLeft = null != projection || 0 != requiredPropertiesMask || requiredProperties.isEmpty() ? null :
+                new HashSet<String>( requiredProperties );
 
         // we first instantiate the bean. It might buffer properties if there are properties required for constructor and they are not in
         // first position
-        Instance<T> instance = instanceBuilder.newInstance( reader, ctx, bufferedProperties );
+        final boolean update = null != value && isUpdatable();
+        Instance<T> instance = update ? new Instance<T>( value, bufferedProperties ) : instanceBuilder
+                .newInstance( reader, ctx, bufferedProperties );
 
         T bean = instance.getInstance();
 
@@ -257,7 +346,8 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         bufferedProperties = readIdentityProperty( identityInfo, bean, instance.getBufferedProperties(), reader, ctx, ignoredProperties );
 
         // we flush any buffered properties
-        flushBufferedProperties( bean, bufferedProperties, requiredPropertiesLeft, ctx, ignoreUnknown, ignoredProperties );
+        requiredPropertiesLeft = flushBufferedProperties( bean, bufferedProperties, requiredPropertiesLeft, requiredPropertyNamesLeft,
+                ctx, ignoreUnknown, ignoredProperties, typeInfoPropertyName, update, projection );
 
         // in case there is a property that need the type info
         if ( null != typeInfo && null != typeInfo.getPropertyName() && null != type ) {
@@ -270,28 +360,208 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         while ( JsonToken.NAME.equals( reader.peek() ) ) {
             String propertyName = reader.nextName();
 
-            requiredPropertiesLeft.remove( propertyName );
+            if ( null != requiredPropertyNamesLeft ) {
+                requiredPropertyNamesLeft.remove( propertyName );
+            }
 
-            if ( ignoredProperties.contains( propertyName ) ) {
+            if ( ignoredProperties.contains( propertyName ) || propertyName.equals( typeInfoPropertyName ) ) {
+                requiredPropertiesLeft = clearIgnoredRequiredBit( propertyName, requiredPropertiesLeft );
                 reader.skipValue();
                 continue;
             }
 
+            Projection propertyProjection = null;
+            if ( null != projection ) {
+                propertyProjection = projection.getProperty( propertyName );
+                if ( null == propertyProjection ) {
+                    // the value is skipped without being instantiated
+                    reader.skipValue();
+                    continue;
+                }
+            }
+
             BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
             if ( null == property ) {
                 reader.skipValue();
             } else {
-                property.deserialize( reader, bean, ctx );
+                requiredPropertiesLeft &= ~property.getRequiredBit();
+                if ( null == view || property.isIncludedInView( view ) ) {
+                    deserializeProperty( property, reader, bean, ctx, update, propertyProjection );
+                } else {
+                    // the property is not part of the active view
+                    reader.skipValue();
+                }
+            }
+        }
+
+        checkRequiredProperties( reader, ctx, requiredPropertiesLeft, requiredPropertyNamesLeft );
+        return bean;
+    }
+
+    /**
+     * Deserializes a bean written as a json array of its property values. The values are matched to the properties by their position
+     * so no property name is read.
+     */
+    private T deserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, T value ) {
+        if ( null == arrayPropertyNames ) {
+            arrayPropertyNames = initArrayPropertyNames();
+            arrayPropertyDeserializers = new BeanPropertyDeserializer[arrayPropertyNames.length];
+            for ( int i = 0; i < arrayPropertyNames.length; i++ ) {
+                arrayPropertyDeserializers[i] = findPropertyDeserializer( arrayPropertyNames[i] );
+            }
+        }
+
+        final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown() || !ctx.isFailOnUnknownProperties();
+        final Set<String> ignoredProperties = getIgnoredProperties( params );
+
+        T result;
+        reader.beginArray();
+        if ( isUpdatable() ) {
+            result = deserializeArrayValues( reader, ctx, params, ignoreUnknown, ignoredProperties, value );
+        } else {
+            // the instance builder reads the values of the creator properties by name so all the values are buffered with the name of
+            // their property. The reader is at the end of the array so only the buffered properties are read.
+            Map<String, JsonReader> bufferedProperties = new HashMap<String, JsonReader>();
+            int index = 0;
+            while ( reader.hasNext() ) {
+                index = nextArrayIndex( index, ignoredProperties );
+                if ( index < arrayPropertyNames.length ) {
+                    bufferedProperties.put( arrayPropertyNames[index++], reader.nextValueReader() );
+                } else {
+                    skipUnknownArrayValue( reader, ctx, ignoreUnknown );
+                }
             }
+            result = deserializeObject( reader, ctx, params, null, null, null, bufferedProperties, value );
         }
+        reader.endArray();
+        return result;
+    }
+
+    private T deserializeArrayValues( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                      boolean ignoreUnknown, Set<String> ignoredProperties, T value ) {
+        final Projection projection = params.getProjection();
+        final Class<?> view = ctx.getActiveView();
+
+        int requiredPropertiesLeft = null == projection ? requiredPropertiesMask : 0;
+        Set<String> requiredPropertyNamesLeft = null != projection || 0 != requiredPropertiesMask || requiredProperties.isEmpty() ? null :
+                new HashSet<String>( requiredProperties );
+
+        final boolean update = null != value;
+        T bean = update ? value : instanceBuilder.newInstance( reader, ctx, null ).getInstance();
+
+        int index = 0;
+        while ( reader.hasNext() ) {
+            index = nextArrayIndex( index, ignoredProperties );
+            if ( index >= arrayPropertyNames.length ) {
+                skipUnknownArrayValue( reader, ctx, ignoreUnknown );
+                continue;
+            }
+
+            String propertyName = arrayPropertyNames[index];
+            BeanPropertyDeserializer<T, ?> property = arrayPropertyDeserializers[index++];
 
-        if ( !requiredPropertiesLeft.isEmpty() ) {
-            throw ctx.traceError( "Required properties are missing : " + requiredPropertiesLeft, reader );
+            if ( null != requiredPropertyNamesLeft ) {
+                requiredPropertyNamesLeft.remove( propertyName );
+            }
+
+            Projection propertyProjection = null;
+            if ( null != projection ) {
+                propertyProjection = projection.getProperty( propertyName );
+                if ( null == propertyProjection ) {
+                    reader.skipValue();
+                    continue;
+                }
+            }
+
+            if ( null == property ) {
+                // the property is only serialized
+                reader.skipValue();
+            } else {
+                requiredPropertiesLeft &= ~property.getRequiredBit();
+                if ( null == view || property.isIncludedInView( view ) ) {
+                    deserializeProperty( property, reader, bean, ctx, update, propertyProjection );
+                } else {
+                    reader.skipValue();
+                }
+            }
         }
+
+        checkRequiredProperties( reader, ctx, requiredPropertiesLeft, requiredPropertyNamesLeft );
         return bean;
     }
 
-    private Map<String, String> readIdentityProperty( IdentityDeserializationInfo identityInfo, T bean, Map<String, String> bufferedProperties,
+    /**
+     * Returns the position of the next value. The properties ignored by the parameters are not serialized so they have no value.
+     */
+    private int nextArrayIndex( int index, Set<String> ignoredProperties ) {
+        if ( !ignoredProperties.isEmpty() ) {
+            while ( index < arrayPropertyNames.length && ignoredProperties.contains( arrayPropertyNames[index] ) ) {
+                index++;
+            }
+        }
+        return index;
+    }
+
+    private void skipUnknownArrayValue( JsonReader reader, JsonDeserializationContext ctx, boolean ignoreUnknown ) {
+        if ( !ignoreUnknown ) {
+            throw ctx.traceError( "Unexpected value in the array, expected at most " + arrayPropertyNames.length + " values", reader );
+        }
+        reader.skipValue();
+    }
+
+    private void checkRequiredProperties( JsonReader reader, JsonDeserializationContext ctx, int requiredPropertiesLeft,
+                                          Set<String> requiredPropertyNamesLeft ) {
+        if ( 0 != requiredPropertiesLeft ) {
+            throw ctx.traceError( "Required properties are missing : " + getRequiredPropertyNames( requiredPropertiesLeft ), reader );
+        }
+        if ( null != requiredPropertyNamesLeft && !requiredPropertyNamesLeft.isEmpty() ) {
+            throw ctx.traceError( "Required properties are missing : " + requiredPropertyNamesLeft, reader );
+        }
+    }
+
+    /**
+     * Returns the ignored properties for the given parameters. The parameters of a property are always the same instance so the
+     * merge with the default ignored properties is kept for the next call.
+     */
+    private Set<String> getIgnoredProperties( JsonDeserializerParameters params ) {
+        if ( null == params.getIgnoredProperties() ) {
+            return defaultIgnoredProperties;
+        }
+        if ( params != lastParamsWithIgnoredProperties ) {
+            Set<String> ignoredProperties = new HashSet<String>( defaultIgnoredProperties );
+            ignoredProperties.addAll( params.getIgnoredProperties() );
+            lastIgnoredProperties = ignoredProperties;
+            lastParamsWithIgnoredProperties = params;
+        }
+        return lastIgnoredProperties;
+    }
+
+    /**
+     * A required property ignored by the parameters is considered as read.
+     */
+    private int clearIgnoredRequiredBit( String propertyName, int requiredPropertiesLeft ) {
+        if ( 0 == requiredPropertiesLeft ) {
+            return 0;
+        }
+        BeanPropertyDeserializer<T, ?> property = findPropertyDeserializer( propertyName );
+        return null == property ? requiredPropertiesLeft : requiredPropertiesLeft & ~property.getRequiredBit();
+    }
+
+    /**
+     * Returns the names of the required properties whose bit is in the mask.
+     */
+    private List<String> getRequiredPropertyNames( int mask ) {
+        List<String> names = new ArrayList<String>();
+        for ( String name : requiredProperties ) {
+            BeanPropertyDeserializer<T, ?> property = findPropertyDeserializer( name );
+            if ( null != property && 0 != (mask & property.getRequiredBit()) ) {
+                names.add( name );
+            }
+        }
+        return names;
+    }
+
+    private Map<String, JsonReader> readIdentityProperty( IdentityDeserializationInfo identityInfo, T bean, Map<String, JsonReader> bufferedProperties,
                                        JsonReader reader, final JsonDeserializationContext ctx, Set<String> ignoredProperties ) {
         if ( null == identityInfo ) {
             return bufferedProperties;
@@ -299,17 +569,12 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
         JsonReader identityReader = null;
 
-        // we look if it has not been already buffered
-        String propertyValue = null;
-
         // we fisrt look if the identity property has not been read already
         if ( null != bufferedProperties ) {
-            propertyValue = bufferedProperties.remove( identityInfo.getPropertyName() );
+            identityReader = bufferedProperties.remove( identityInfo.getPropertyName() );
         }
 
-        if ( null != propertyValue ) {
-            identityReader = ctx.newJsonReader( propertyValue );
-        } else {
+        if ( null == identityReader ) {
             // we search for the identity property
             while ( JsonToken.NAME.equals( reader.peek() ) ) {
                 String name = reader.nextName();
@@ -324,9 +589,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     break;
                 } else {
                     if ( null == bufferedProperties ) {
-                        bufferedProperties = new HashMap<String, String>();
+                        bufferedProperties = new HashMap<String, JsonReader>();
                     }
-                    bufferedProperties.put( name, reader.nextValue() );
+                    bufferedProperties.put( name, reader.nextValueReader() );
                 }
             }
         }
@@ -334,7 +599,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         if ( null != identityReader ) {
             Object id;
             if ( identityInfo.isProperty() ) {
-                BeanPropertyDeserializer propertyDeserializer = deserializers.get( identityInfo.getPropertyName() );
+                BeanPropertyDeserializer propertyDeserializer = findPropertyDeserializer( identityInfo.getPropertyName() );
                 id = propertyDeserializer.getDeserializer().deserialize( identityReader, ctx );
                 if ( null != id ) {
                     propertyDeserializer.setValue( bean, id, ctx );
@@ -343,36 +608,69 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 id = identityInfo.readId( identityReader, ctx );
             }
             if ( null != id ) {
-                ctx.addObjectId( identityInfo.newIdKey( id ), bean );
+                ctx.addObjectId( identityInfo, id, bean );
             }
         }
 
         return bufferedProperties;
     }
 
-    private void flushBufferedProperties( T bean, Map<String, String> bufferedProperties, Set<String> requiredPropertiesLeft, JsonDeserializationContext ctx,
-                                          boolean ignoreUnknown, Set<String> ignoredProperties ) {
+    private int flushBufferedProperties( T bean, Map<String, JsonReader> bufferedProperties, int requiredPropertiesLeft,
+                                         Set<String> requiredPropertyNamesLeft, JsonDeserializationContext ctx, boolean ignoreUnknown,
+                                         Set<String> ignoredProperties, String typeInfoPropertyName, boolean update,
+                                         Projection projection ) {
         if ( null != bufferedProperties && !bufferedProperties.isEmpty() ) {
-            for ( Entry<String, String> bufferedProperty : bufferedProperties.entrySet() ) {
+            for ( Entry<String, JsonReader> bufferedProperty : bufferedProperties.entrySet() ) {
                 String propertyName = bufferedProperty.getKey();
 
-                requiredPropertiesLeft.remove( propertyName );
+                if ( null != requiredPropertyNamesLeft ) {
+                    requiredPropertyNamesLeft.remove( propertyName );
+                }
 
-                if ( ignoredProperties.contains( propertyName ) ) {
+                if ( ignoredProperties.contains( propertyName ) || propertyName.equals( typeInfoPropertyName ) ) {
+                    requiredPropertiesLeft = clearIgnoredRequiredBit( propertyName, requiredPropertiesLeft );
                     continue;
                 }
 
+                Projection propertyProjection = null;
+                if ( null != projection ) {
+                    propertyProjection = projection.getProperty( propertyName );
+                    if ( null == propertyProjection ) {
+                        continue;
+                    }
+                }
+
                 BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
                 if ( null != property ) {
-                    property.deserialize( ctx.newJsonReader( bufferedProperty.getValue() ), bean, ctx );
+                    requiredPropertiesLeft &= ~property.getRequiredBit();
+                    if ( null == ctx.getActiveView() || property.isIncludedInView( ctx.getActiveView() ) ) {
+                        deserializeProperty( property, bufferedProperty.getValue(), bean, ctx, update, propertyProjection );
+                    }
                 }
             }
         }
+        return requiredPropertiesLeft;
+    }
+
+    /**
+     * Deserializes a property. If a projection is given, it is passed to the deserializer of the property through its parameters.
+     */
+    private void deserializeProperty( BeanPropertyDeserializer<T, ?> property, JsonReader reader, T bean, JsonDeserializationContext ctx,
+                                      boolean update, Projection projection ) {
+        JsonDeserializerParameters params = property.getParameters();
+        if ( null != projection ) {
+            params = projection.getParameters( params );
+        }
+        if ( update ) {
+            property.deserializeInto( reader, bean, ctx, params );
+        } else {
+            property.deserialize( reader, bean, ctx, params );
+        }
     }
 
     private BeanPropertyDeserializer<T, ?> getPropertyDeserializer( String propertyName, JsonDeserializationContext ctx,
                                                                     boolean ignoreUnknown ) {
-        BeanPropertyDeserializer<T, ?> property = deserializers.get( propertyName );
+        BeanPropertyDeserializer<T, ?> property = findPropertyDeserializer( propertyName );
         if ( null == property ) {
             if ( !ignoreUnknown && ctx.isFailOnUnknownProperties() ) {
                 throw ctx.traceError( "Unknown property '" + propertyName + "'" );
@@ -383,14 +681,15 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     public final T deserializeSubtype( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                        IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo,
-                                       String typeInformation, Map<String, String> bufferedProperties ) {
+                                       String typeInformation, Map<String, JsonReader> bufferedProperties, T value ) {
         Class typeClass = typeInfo.getTypeClass( typeInformation );
         if ( null == typeClass ) {
             throw ctx.traceError( "Could not find the type associated to " + typeInformation, reader );
         }
 
-        return getDeserializer( reader, ctx, typeClass )
-                .deserializeObject( reader, ctx, params, identityInfo, typeInfo, typeInformation, bufferedProperties );
+        // the existing bean is only updated if it has the type read
+        return getDeserializer( reader, ctx, typeClass ).deserializeObject( reader, ctx, params, identityInfo, typeInfo,
+                typeInformation, bufferedProperties, null != value && value.getClass() == typeClass ? value : null );
     }
 
     private AbstractBeanJsonDeserializer<T> getDeserializer( JsonReader reader, JsonDeserializationContext ctx, Class typeClass ) {
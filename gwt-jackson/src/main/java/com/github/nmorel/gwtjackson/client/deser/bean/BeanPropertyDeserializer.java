@@ -18,6 +18,7 @@ package com.github.nmorel.gwtjackson.client.deser.bean;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 
 /**
@@ -38,6 +39,78 @@ public abstract class BeanPropertyDeserializer<T, V> extends HasDeserializerAndP
         setValue( bean, deserialize( reader, ctx ), ctx );
     }
 
+    /**
+     * Deserializes the property defined for this instance into its current value. See
+     * {@link JsonDeserializer#deserializeInto(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Object)}.
+     *
+     * @param reader reader
+     * @param bean bean to update
+     * @param ctx context of the deserialization process
+     */
+    public void deserializeInto( JsonReader reader, T bean, JsonDeserializationContext ctx ) {
+        deserializeInto( reader, bean, ctx, getParameters() );
+    }
+
+    /**
+     * Deserializes the property defined for this instance with the given parameters instead of the ones of the property.
+     *
+     * @param reader reader
+     * @param bean bean to set the deserialized property to
+     * @param ctx context of the deserialization process
+     * @param params parameters to use
+     */
+    public void deserialize( JsonReader reader, T bean, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        setValue( bean, getDeserializer().deserialize( reader, ctx, params ), ctx );
+    }
+
+    /**
+     * Deserializes the property defined for this instance into its current value with the given parameters instead of the ones of
+     * the property.
+     *
+     * @param reader reader
+     * @param bean bean to update
+     * @param ctx context of the deserialization process
+     * @param params parameters to use
+     */
+    public void deserializeInto( JsonReader reader, T bean, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        // the value is set even if it has been updated in place so the back references are set on the new elements
+        setValue( bean, getDeserializer().deserializeInto( reader, ctx, params, getValue( bean, ctx ) ), ctx );
+    }
+
     public abstract void setValue( T bean, V value, JsonDeserializationContext ctx );
+
+    /**
+     * Returns true if the property is included in the given view. The generated deserializers override it when the property has a
+     * {@link com.fasterxml.jackson.annotation.JsonView} annotation.
+     *
+     * @param view the active view
+     *
+     * @return true if the property is deserialized with this view
+     */
+    public boolean isIncludedInView( Class<?> view ) {
+        return true;
+    }
+
+    /**
+     * Returns the current value of the property.
+     *
+     * @param bean bean to get the value from
+     * @param ctx context of the deserialization process
+     *
+     * @return the current value or null if the property has no visible getter
+     */
+    public V getValue( T bean, JsonDeserializationContext ctx ) {
+        return null;
+    }
+
+    /**
+     * Returns the bit of this property in the mask of the required properties returned by
+     * {@link AbstractBeanJsonDeserializer#initRequiredPropertiesMask()}.
+     *
+     * @return the bit of the property or 0 if the property is not required or has no bit
+     */
+    public int getRequiredBit() {
+        return 0;
+    }
 }
 
@@ -26,6 +26,6 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  */
 public interface InstanceBuilder<T> {
 
-    Instance<T> newInstance( JsonReader reader, JsonDeserializationContext ctx, Map<String, String> bufferedProperties );
+    Instance<T> newInstance( JsonReader reader, JsonDeserializationContext ctx, Map<String, JsonReader> bufferedProperties );
 
 }
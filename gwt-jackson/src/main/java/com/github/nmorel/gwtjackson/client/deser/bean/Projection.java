@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.deser.bean;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+
+/**
+ * Tree of the property paths to deserialize. The properties of a bean that are not in the projection are skipped and their value is
+ * never instantiated.
+ * <p>
+ * Example : {@code Projection.parse("items[].id,items[].name,title")}
+ * </p>
+ * The projection applies to the elements of the collections, arrays and maps so the {@code []} suffix is optional. A path ending on a
+ * property deserializes its whole value.
+ *
+ * @author Nicolas Morel
+ */
+public final class Projection {
+
+    /**
+     * Parses a list of paths separated by commas. Each path is a list of property names separated by dots.
+     *
+     * @param paths the paths to deserialize
+     *
+     * @return the projection
+     * @throws IllegalArgumentException if a path is empty or contains an empty name
+     */
+    public static Projection parse( String paths ) {
+        Projection root = new Projection();
+        for ( String path : paths.split( "," ) ) {
+            Projection node = root;
+            for ( String name : path.split( "\\." ) ) {
+                name = name.trim();
+                if ( name.endsWith( "[]" ) ) {
+                    name = name.substring( 0, name.length() - 2 );
+                }
+                if ( name.length() == 0 ) {
+                    throw new IllegalArgumentException( "Invalid projection '" + paths + "'" );
+                }
+                node = node.addProperty( name );
+            }
+            node.whole = true;
+        }
+        return root;
+    }
+
+    private final SimpleStringMap<Projection> properties = SimpleStringMap.createObject().cast();
+
+    /**
+     * True if the whole value is deserialized, the projections of the properties are then ignored
+     */
+    private boolean whole;
+
+    /*
+     * The parameters are copied with this projection for the parameters of a property. The parameters of a property are always the
+     * same instance so the last copy is kept for the next call.
+     */
+    private JsonDeserializerParameters lastBaseParameters;
+
+    private JsonDeserializerParameters lastParameters;
+
+    private Projection() {
+    }
+
+    private Projection addProperty( String name ) {
+        Projection property = properties.get( name );
+        if ( null == property ) {
+            property = new Projection();
+            properties.put( name, property );
+        }
+        return property;
+    }
+
+    /**
+     * @param name name of the property
+     *
+     * @return the projection of the property or null if the property is not deserialized
+     */
+    Projection getProperty( String name ) {
+        return properties.get( name );
+    }
+
+    /**
+     * @return true if the whole value is deserialized
+     */
+    boolean isWhole() {
+        return whole;
+    }
+
+    /**
+     * Returns the parameters to use to deserialize a value with this projection.
+     *
+     * @param parameters parameters of the value
+     *
+     * @return the given parameters if the whole value is deserialized, a copy with this projection otherwise
+     */
+    public JsonDeserializerParameters getParameters( JsonDeserializerParameters parameters ) {
+        if ( whole ) {
+            return parameters;
+        }
+        if ( parameters != lastBaseParameters ) {
+            lastParameters = parameters.copy().setProjection( this );
+            lastBaseParameters = parameters;
+        }
+        return lastParameters;
+    }
+}
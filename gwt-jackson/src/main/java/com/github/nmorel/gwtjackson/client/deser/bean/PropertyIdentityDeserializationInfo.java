@@ -41,6 +41,20 @@ public class PropertyIdentityDeserializationInfo<T> implements IdentityDeseriali
         return true;
     }
 
+    /**
+     * @return type of {@link com.fasterxml.jackson.annotation.ObjectIdGenerator} used for generating Object Id
+     */
+    public final Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return scope of the Object Id (may be null, to denote global)
+     */
+    public final Class<?> getScope() {
+        return scope;
+    }
+
     @Override
     public IdKey newIdKey( Object id ) {
         return new IdKey( type, scope, id );
@@ -17,6 +17,7 @@
 package com.github.nmorel.gwtjackson.client.deser.collection;
 
 import java.util.Collection;
+import java.util.List;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
@@ -69,6 +70,40 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
         }
     }
 
+    /**
+     * Refills the given collection with the elements read. If the collection is a {@link List}, the previous elements are updated in
+     * place in the same order. If the collection cannot be modified, a new collection is returned.
+     */
+    @Override
+    protected C doDeserializeInto( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, C value ) {
+        if ( JsonToken.BEGIN_ARRAY != reader.peek() ) {
+            return doDeserialize( reader, ctx, params );
+        }
+
+        Object[] previousElements = value instanceof List ? value.toArray() : null;
+        C result = newCollection();
+
+        int index = 0;
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            T previous = null != previousElements && index < previousElements.length ? (T) previousElements[index] : null;
+            index++;
+            T element = deserializer.deserializeInto( reader, ctx, params, previous );
+            if ( isNullValueAllowed() || null != element ) {
+                result.add( element );
+            }
+        }
+        reader.endArray();
+
+        try {
+            value.clear();
+            value.addAll( result );
+            return value;
+        } catch ( UnsupportedOperationException e ) {
+            return result;
+        }
+    }
+
     /**
      * Instantiates a new collection for deserialization process.
      *
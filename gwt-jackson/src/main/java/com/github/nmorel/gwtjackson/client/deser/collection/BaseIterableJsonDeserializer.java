@@ -41,6 +41,13 @@ public abstract class BaseIterableJsonDeserializer<I extends Iterable<T>, T> ext
         this.deserializer = deserializer;
     }
 
+    /**
+     * @return the {@link JsonDeserializer} used to map the objects inside the {@link Iterable}
+     */
+    public JsonDeserializer<T> getElementDeserializer() {
+        return deserializer;
+    }
+
     @Override
     public void setBackReference( String referenceName, Object reference, I value, JsonDeserializationContext ctx ) {
         if ( null != value ) {
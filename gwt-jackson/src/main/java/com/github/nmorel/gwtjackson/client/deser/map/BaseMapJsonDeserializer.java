@@ -77,6 +77,31 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
         return result;
     }
 
+    /**
+     * Refills the given map with the entries read. The previous values are updated in place when their key is still present. If the
+     * map cannot be modified, a new map is returned.
+     */
+    @Override
+    protected M doDeserializeInto( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, M value ) {
+        M result = newMap();
+
+        reader.beginObject();
+        while ( JsonToken.END_OBJECT != reader.peek() ) {
+            String name = reader.nextName();
+            K key = keyDeserializer.deserialize( name, ctx );
+            result.put( key, valueDeserializer.deserializeInto( reader, ctx, params, value.get( key ) ) );
+        }
+        reader.endObject();
+
+        try {
+            value.clear();
+            value.putAll( result );
+            return value;
+        } catch ( UnsupportedOperationException e ) {
+            return result;
+        }
+    }
+
     /**
      * Instantiates a new map for deserialization process.
      *
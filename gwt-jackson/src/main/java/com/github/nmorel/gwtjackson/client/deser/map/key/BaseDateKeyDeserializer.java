@@ -22,6 +22,7 @@ import java.util.Date;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.utils.Iso8601DateFormat;
 import com.google.gwt.i18n.client.DateTimeFormat;
 import com.google.gwt.i18n.client.DateTimeFormat.PredefinedFormat;
 
@@ -152,6 +153,10 @@ public abstract class BaseDateKeyDeserializer<D extends Date> extends KeyDeseria
         // Default configuration for serializing keys is using ISO-8601, we try that one first
 
         // in ISO-8601
+        Date date = Iso8601DateFormat.parseDateTime( key );
+        if ( null != date ) {
+            return deserializeDate( date );
+        }
         try {
             return deserializeDate( ISO_8601_FORMAT.parse( key ) );
         } catch ( IllegalArgumentException e ) {
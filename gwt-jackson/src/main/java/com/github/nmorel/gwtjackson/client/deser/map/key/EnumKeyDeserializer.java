@@ -17,6 +17,8 @@
 package com.github.nmorel.gwtjackson.client.deser.map.key;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.deser.EnumJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
 
 /**
  * Default {@link KeyDeserializer} implementation for {@link Enum}.
@@ -34,23 +36,47 @@ public final class EnumKeyDeserializer<E extends Enum<E>> extends KeyDeserialize
      * @return a new instance of {@link EnumKeyDeserializer}
      */
     public static <E extends Enum<E>> EnumKeyDeserializer<E> newInstance( Class<E> enumClass ) {
-        return new EnumKeyDeserializer<E>( enumClass );
+        return new EnumKeyDeserializer<E>( enumClass, null );
+    }
+
+    /**
+     * @param enumClass class of the enumeration
+     * @param values constants of the enumeration used to build the lookup table by name
+     * @param <E> Type of the enum
+     *
+     * @return a new instance of {@link EnumKeyDeserializer}
+     */
+    public static <E extends Enum<E>> EnumKeyDeserializer<E> newInstance( Class<E> enumClass, E[] values ) {
+        return new EnumKeyDeserializer<E>( enumClass, values );
     }
 
     private final Class<E> enumClass;
 
+    /**
+     * Constants indexed by name or null if the constants were not given
+     */
+    private final SimpleStringMap<E> constants;
+
     /**
      * @param enumClass class of the enumeration
+     * @param values constants of the enumeration or null to use {@link Enum#valueOf(Class, String)}
      */
-    private EnumKeyDeserializer( Class<E> enumClass ) {
+    private EnumKeyDeserializer( Class<E> enumClass, E[] values ) {
         if ( null == enumClass ) {
             throw new IllegalArgumentException( "enumClass cannot be null" );
         }
         this.enumClass = enumClass;
+        this.constants = EnumJsonDeserializer.newConstantsMap( values );
     }
 
     @Override
     protected E doDeserialize( String key, JsonDeserializationContext ctx ) {
+        if ( null != constants ) {
+            E value = constants.get( key );
+            if ( null != value ) {
+                return value;
+            }
+        }
         return Enum.valueOf( enumClass, key );
     }
 
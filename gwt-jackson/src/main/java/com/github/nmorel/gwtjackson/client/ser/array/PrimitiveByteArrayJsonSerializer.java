@@ -49,6 +49,6 @@ public class PrimitiveByteArrayJsonSerializer extends JsonSerializer<byte[]> {
             return;
         }
 
-        writer.value( Base64.encode( new String( values ) ) );
+        writer.value( Base64.encode( values ) );
     }
 }
@@ -51,7 +51,7 @@ public class PrimitiveByteArray2dJsonSerializer extends JsonSerializer<byte[][]>
 
         writer.beginArray();
         for ( byte[] array : values ) {
-            writer.value( Base64.encode( new String( array ) ) );
+            writer.value( Base64.encode( array ) );
         }
         writer.endArray();
     }
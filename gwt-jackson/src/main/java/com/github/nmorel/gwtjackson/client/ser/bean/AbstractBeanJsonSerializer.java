@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
@@ -35,7 +37,7 @@ import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
  */
 public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
 
-    private final Map<String, BeanPropertySerializer<T, ?>> serializers;// = new LinkedHashMap<String, BeanPropertySerializer<T, ?>>();
+    private Map<String, BeanPropertySerializer<T, ?>> serializers;
 
     private final Map<Class, SubtypeSerializer> subtypeClassToSerializer;
 
@@ -44,7 +46,6 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
     private final TypeSerializationInfo<T> defaultTypeInfo;
 
     protected AbstractBeanJsonSerializer() {
-        this.serializers = initSerializers();
         this.defaultIdentityInfo = initIdentityInfo();
         this.defaultTypeInfo = initTypeInfo();
         this.subtypeClassToSerializer = initMapSubtypeClassToSerializer();
@@ -52,12 +53,19 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
 
     /**
      * Initialize the {@link Map} containing the property serializers. Returns an empty map if there are no properties to
-     * serialize.
+     * serialize. It is called the first time the map is needed so the generated serializers can put their fields in it.
      */
     protected Map<String, BeanPropertySerializer<T, ?>> initSerializers() {
         return Collections.emptyMap();
     }
 
+    private Map<String, BeanPropertySerializer<T, ?>> getSerializers() {
+        if ( null == serializers ) {
+            serializers = initSerializers();
+        }
+        return serializers;
+    }
+
     /**
      * Initialize the {@link IdentitySerializationInfo}. Returns null if there is no {@link JsonIdentityInfo} annotation on bean.
      */
@@ -79,6 +87,14 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
         return Collections.emptyMap();
     }
 
+    /**
+     * Whether the bean is written as a json array of its property values when the parameters do not give a shape. The generated
+     * serializers override it when the bean is annotated with {@link JsonFormat} and the shape {@link Shape#ARRAY}.
+     */
+    protected boolean isDefaultArrayShape() {
+        return false;
+    }
+
     public abstract Class getSerializedType();
 
     @Override
@@ -90,6 +106,15 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
         final Set<String> ignoredProperties = null == params.getIgnoredProperties() ? Collections.<String>emptySet() : params
                 .getIgnoredProperties();
 
+        // like Jackson, the array shape is not used when the bean has an identity or type information
+        if ( null == identityInfo && null == typeInfo && (Shape.ARRAY == params.getShape() || (Shape.ANY == params
+                .getShape() && isDefaultArrayShape())) ) {
+            writer.beginArray();
+            getSerializer( writer, value, ctx ).serializeArray( writer, value, ctx, ignoredProperties );
+            writer.endArray();
+            return;
+        }
+
         ObjectIdSerializer<?> idWriter = null;
         if ( null != identityInfo ) {
             idWriter = ctx.getObjectId( value );
@@ -100,7 +125,7 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
             }
 
             if ( identityInfo.isProperty() ) {
-                BeanPropertySerializer<T, ?> propertySerializer = serializers.get( identityInfo.getPropertyName() );
+                BeanPropertySerializer<T, ?> propertySerializer = getSerializers().get( identityInfo.getPropertyName() );
                 idWriter = new ObjectIdSerializer( propertySerializer.getValue( value, ctx ), propertySerializer.getSerializer() );
             } else {
                 idWriter = identityInfo.getObjectId( value, ctx );
@@ -196,12 +221,96 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> {
      */
     public final void serializeObject( JsonWriter writer, T value, JsonSerializationContext ctx, IdentitySerializationInfo identityInfo,
                                        TypeSerializationInfo typeInfo, Set<String> ignoredProperties ) {
-        for ( Map.Entry<String, BeanPropertySerializer<T, ?>> entry : serializers.entrySet() ) {
+        if ( ignoredProperties.isEmpty() && (null == identityInfo || !identityInfo.isProperty()) ) {
+            serializeProperties( writer, value, ctx );
+        } else {
+            serializeProperties( writer, value, ctx, identityInfo, ignoredProperties );
+        }
+    }
+
+    /**
+     * Serializes all the properties of the bean when none of them has to be skipped. The generated serializers override it to write
+     * each property in turn without going through the {@link Map} returned by {@link #initSerializers()}.
+     *
+     * @param writer writer
+     * @param value bean to serialize
+     * @param ctx context of the serialization process
+     */
+    protected void serializeProperties( JsonWriter writer, T value, JsonSerializationContext ctx ) {
+        serializeProperties( writer, value, ctx, null, Collections.<String>emptySet() );
+    }
+
+    private void serializeProperties( JsonWriter writer, T value, JsonSerializationContext ctx, IdentitySerializationInfo identityInfo,
+                                      Set<String> ignoredProperties ) {
+        Class<?> view = ctx.getActiveView();
+        for ( Map.Entry<String, BeanPropertySerializer<T, ?>> entry : getSerializers().entrySet() ) {
             if ( (null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals( entry
-                    .getKey() )) && !ignoredProperties.contains( entry.getKey() ) ) {
+                    .getKey() )) && !ignoredProperties.contains( entry.getKey() ) && (null == view || entry.getValue()
+                    .isIncludedInView( view )) ) {
                 writer.name( entry.getKey() );
                 entry.getValue().serialize( writer, value, ctx );
             }
         }
     }
+
+    /**
+     * Serializes the values of the properties in their order without their names. The {@link JsonWriter} must be in a json array.
+     * A property excluded by the active view is written as null to keep the position of the next ones.
+     */
+    private void serializeArray( JsonWriter writer, T value, JsonSerializationContext ctx, Set<String> ignoredProperties ) {
+        Class<?> view = ctx.getActiveView();
+        for ( Map.Entry<String, BeanPropertySerializer<T, ?>> entry : getSerializers().entrySet() ) {
+            if ( ignoredProperties.contains( entry.getKey() ) ) {
+                continue;
+            }
+            if ( null == view || entry.getValue().isIncludedInView( view ) ) {
+                serializeArrayElement( writer, value, ctx, entry.getValue() );
+            } else {
+                writer.nullValue();
+            }
+        }
+    }
+
+    /**
+     * Serializes the value of a property at its position in the array. The array and collection serializers write nothing for an
+     * empty value when {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is false, so a null placeholder is written instead
+     * to keep the position of the next properties, like Jackson does.
+     */
+    private <V> void serializeArrayElement( JsonWriter writer, T value, JsonSerializationContext ctx, BeanPropertySerializer<T,
+            V> propertySerializer ) {
+        V propertyValue = propertySerializer.getValue( value, ctx );
+        if ( !ctx.isWriteEmptyJsonArrays() && isEmptyArrayOrIterable( propertyValue ) ) {
+            writer.nullValue();
+        } else {
+            propertySerializer.serializeValue( writer, propertyValue, ctx );
+        }
+    }
+
+    private static boolean isEmptyArrayOrIterable( Object value ) {
+        if ( null == value ) {
+            return false;
+        } else if ( value instanceof Iterable ) {
+            return !((Iterable<?>) value).iterator().hasNext();
+        } else if ( value instanceof Object[] ) {
+            return ((Object[]) value).length == 0;
+        } else if ( value instanceof boolean[] ) {
+            return ((boolean[]) value).length == 0;
+        } else if ( value instanceof byte[] ) {
+            return ((byte[]) value).length == 0;
+        } else if ( value instanceof char[] ) {
+            return ((char[]) value).length == 0;
+        } else if ( value instanceof double[] ) {
+            return ((double[]) value).length == 0;
+        } else if ( value instanceof float[] ) {
+            return ((float[]) value).length == 0;
+        } else if ( value instanceof int[] ) {
+            return ((int[]) value).length == 0;
+        } else if ( value instanceof long[] ) {
+            return ((long[]) value).length == 0;
+        } else if ( value instanceof short[] ) {
+            return ((short[]) value).length == 0;
+        } else {
+            return false;
+        }
+    }
 }
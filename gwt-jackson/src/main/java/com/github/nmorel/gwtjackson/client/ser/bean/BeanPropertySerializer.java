@@ -49,6 +49,18 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      */
     public abstract V getValue( T bean, JsonSerializationContext ctx );
 
+    /**
+     * Returns true if the property is included in the given view. The generated serializers override it when the property has a
+     * {@link com.fasterxml.jackson.annotation.JsonView} annotation.
+     *
+     * @param view the active view
+     *
+     * @return true if the property is serialized with this view
+     */
+    public boolean isIncludedInView( Class<?> view ) {
+        return true;
+    }
+
     /**
      * Serializes the property defined for this instance.
      *
@@ -57,6 +69,17 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      * @param ctx context of the serialization process
      */
     public void serialize( JsonWriter writer, T bean, JsonSerializationContext ctx ) {
-        getSerializer().serialize( writer, getValue( bean, ctx ), ctx, getParameters() );
+        serializeValue( writer, getValue( bean, ctx ), ctx );
+    }
+
+    /**
+     * Serializes a value of the property already retrieved from the bean.
+     *
+     * @param writer writer
+     * @param value value of the property
+     * @param ctx context of the serialization process
+     */
+    public void serializeValue( JsonWriter writer, V value, JsonSerializationContext ctx ) {
+        getSerializer().serialize( writer, value, ctx, getParameters() );
     }
 }
@@ -171,9 +171,38 @@ public interface JsonReader
      */
     String nextValue();
 
+    /**
+     * Reads the next value recursively and returns a {@link JsonReader} reading only this value. If it is an object or array, all
+     * nested elements are read. Implementations sharing the input avoid copying the value as a String to parse it again later.
+     * The returned reader is lenient since the value can be a primitive.
+     */
+    JsonReader nextValueReader();
+
     int getLineNumber();
 
     int getColumnNumber();
 
     String getInput();
+
+    /**
+     * Resets the reader to read a new input from the beginning. The configuration of the reader, like the leniency, is kept. It
+     * avoids the allocation of a new reader when many inputs are read one after another. An empty input releases the previous one.
+     *
+     * @param input the new input
+     */
+    void reset( String input );
+
+    /**
+     * Marks the current position. A later call to {@link #rewind()} moves the reader back to this position, as long as the reader has
+     * not left the array or object containing the mark. Only the last mark is kept.
+     */
+    void mark();
+
+    /**
+     * Moves the reader back to the position saved by the last call to {@link #mark()}. It allows to look ahead in the input without
+     * buffering the values read.
+     *
+     * @throws IllegalStateException if no position has been marked
+     */
+    void rewind();
 }
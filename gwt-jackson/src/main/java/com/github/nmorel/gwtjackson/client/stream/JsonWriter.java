@@ -88,6 +88,16 @@ public interface JsonWriter {
      */
     JsonWriter name( String name );
 
+    /**
+     * Encodes the property name with its already escaped form. The escaped name is written as is so it must be valid whatever the
+     * escaping rules of the writer are, it is meant for the names known at compile time that do not need escaping.
+     *
+     * @param name the name of the forthcoming value. May not be null.
+     * @param escapedName the name escaped and surrounded by double quotes. May not be null.
+     * @return this writer.
+     */
+    JsonWriter name( String name, String escapedName );
+
     /**
      * Encodes {@code value}.
      *
@@ -147,7 +157,7 @@ public interface JsonWriter {
 
     /**
      * Ensures all buffered data is written to the underlying {@link StringBuilder}
-     * and flushes that writer.
+     * or {@link Appendable} and flushes that writer.
      */
     void flush();
 
@@ -160,4 +170,10 @@ public interface JsonWriter {
      * @return the output when the serialization is over
      */
     String getOutput();
+
+    /**
+     * Resets the writer to write a new document. The output not yet flushed is discarded and the configuration of the writer, like
+     * the indentation, is kept. It avoids the allocation of a new writer when many documents are written one after another.
+     */
+    void reset();
 }
@@ -228,7 +228,7 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
   private static final int NUMBER_CHAR_EXP_DIGIT = 7;
 
   /** The input JSON. */
-  private final StringReader in;
+  private StringReader in;
 
   /** True to accept non-spec compliant JSON */
   private boolean lenient = false;
@@ -276,6 +276,22 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
   }
 
+  /*
+   * The state saved by mark(). The positions are the ones in the whole input
+   * since the buffer may be refilled before rewind() is called. Only the top of
+   * the stack is saved since the reader cannot leave the array or object
+   * containing the mark.
+   */
+  private int markedPos = -1;
+  private int markedLineNumber;
+  private int markedLineStart;
+  private int markedPeeked;
+  private long markedPeekedLong;
+  private int markedPeekedNumberLength;
+  private String markedPeekedString;
+  private int markedStackSize;
+  private int markedTop;
+
   /**
    * Creates a new instance that reads a JSON-encoded stream from {@code in}.
    */
@@ -1464,6 +1480,70 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     return in.getInput();
   }
 
+  @Override
+  public void reset( String in ) {
+    this.in = new StringReader(in);
+    pos = 0;
+    limit = 0;
+    lineNumber = 0;
+    lineStart = 0;
+    peeked = PEEKED_NONE;
+    peekedString = null;
+    stackSize = 0;
+    stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
+    markedPos = -1;
+    markedPeekedString = null;
+  }
+
+  @Override
+  public void mark() {
+    int bufferStart = in.getPosition() - limit;
+    markedPos = bufferStart + pos;
+    markedLineNumber = lineNumber;
+    markedLineStart = bufferStart + lineStart;
+    markedPeeked = peeked;
+    markedPeekedLong = peekedLong;
+    markedPeekedNumberLength = peekedNumberLength;
+    markedPeekedString = peekedString;
+    markedStackSize = stackSize;
+    markedTop = stack.get(stackSize - 1);
+  }
+
+  @Override
+  public void rewind() {
+    if (markedPos < 0) {
+      throw new IllegalStateException("No position has been marked");
+    }
+    // the buffer is emptied and refilled from the marked position
+    in.setPosition(markedPos);
+    pos = 0;
+    limit = 0;
+    lineNumber = markedLineNumber;
+    lineStart = markedLineStart - markedPos;
+    peeked = markedPeeked;
+    peekedLong = markedPeekedLong;
+    peekedNumberLength = markedPeekedNumberLength;
+    peekedString = markedPeekedString;
+    stackSize = markedStackSize;
+    stack.set(stackSize - 1, markedTop);
+    // a peeked number is read from the buffer, it is loaded again
+    if (peeked == PEEKED_NUMBER && !fillBuffer(peekedNumberLength)) {
+      throw new IllegalStateException("Cannot read the number peeked before the mark");
+    }
+  }
+
+  /**
+   * Returns a reader over a copy of the next value. The input is read
+   * sequentially so the value cannot be replayed from it.
+   */
+  @Override
+  public DefaultJsonReader nextValueReader()
+  {
+    DefaultJsonReader reader = new DefaultJsonReader(new StringReader(nextValue()));
+    reader.setLenient(true);
+    return reader;
+  }
+
   @Override
   public String nextValue()
   {
@@ -1475,6 +1555,14 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
         p = doPeek();
       }
 
+      if (p != PEEKED_END_ARRAY && p != PEEKED_END_OBJECT && builder.length() > 0) {
+        // separator between two elements of an array or two members of an object
+        char last = builder.charAt(builder.length() - 1);
+        if (last != '[' && last != '{' && last != ':') {
+          builder.append(',');
+        }
+      }
+
       if (p == PEEKED_BEGIN_ARRAY) {
         push(JsonScope.EMPTY_ARRAY);
         count++;
@@ -1521,6 +1609,8 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
         builder.append( true );
       } else if (p == PEEKED_FALSE) {
         builder.append( false );
+      } else if (p == PEEKED_NULL) {
+        builder.append( "null" );
       } else if (p == PEEKED_LONG) {
         builder.append( peekedLong );
       } else if (p == PEEKED_BUFFERED) {
@@ -194,6 +194,12 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
 
   private String deferredName;
 
+  /**
+   * The deferred name already escaped and quoted or null if it has to be
+   * escaped when written.
+   */
+  private String deferredEscapedName;
+
   private boolean serializeNulls = true;
 
   /**
@@ -353,10 +359,25 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
     return this;
   }
 
+  @Override
+  public DefaultJsonWriter name( String name, String escapedName ) {
+    if (escapedName == null) {
+      throw new NullPointerException("escapedName == null");
+    }
+    name(name);
+    deferredEscapedName = escapedName;
+    return this;
+  }
+
   private void writeDeferredName() {
     if (deferredName != null) {
       beforeName();
-      string(deferredName);
+      if (deferredEscapedName != null) {
+        out.append(deferredEscapedName);
+        deferredEscapedName = null;
+      } else {
+        string(deferredName);
+      }
       deferredName = null;
     }
   }
@@ -379,6 +400,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
         writeDeferredName();
       } else {
         deferredName = null;
+        deferredEscapedName = null;
         return this; // skip the name and the value
       }
     }
@@ -391,6 +413,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   public DefaultJsonWriter cancelName() {
     if (deferredName != null) {
       deferredName = null;
+      deferredEscapedName = null;
     }
     return this;
   }
@@ -574,5 +597,14 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   public String getOutput() {
     return out.toString();
   }
+
+  @Override
+  public void reset() {
+    out.setLength(0);
+    stackSize = 0;
+    push(JsonScope.EMPTY_DOCUMENT);
+    deferredName = null;
+    deferredEscapedName = null;
+  }
 }
 //@formatter:on
\ No newline at end of file
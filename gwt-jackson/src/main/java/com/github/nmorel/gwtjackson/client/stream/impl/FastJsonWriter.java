@@ -17,10 +17,12 @@
 
 package com.github.nmorel.gwtjackson.client.stream.impl;
 
+import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArrayInteger;
 import com.google.gwt.core.client.JsonUtils;
 
@@ -31,9 +33,40 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
 
   private static final Logger logger = Logger.getLogger( "JsonWriter" );
 
+  /** Number of buffered characters above which the output is written to the sink. */
+  private static final int SINK_BUFFER_SIZE = 8192;
+
+  /** Biggest integer that can be represented exactly by a double */
+  private static final long MAX_SAFE_INTEGER = 9007199254740991l;
+
+  /**
+   * Matches the characters escaped by {@link JsonUtils#escapeValue(String)}.
+   */
+  private static final JavaScriptObject ESCAPE_REGEXP = createEscapeRegExp();
+
+  private static native JavaScriptObject createEscapeRegExp() /*-{
+    return new RegExp('[\\x00-\\x1f\\xad\\u0600-\\u0603\\u06dd\\u070f\\u17b4\\u17b5\\u200b-\\u200f\\u2028-\\u202e'
+        + '\\u2060-\\u2064\\u206a-\\u206f\\ufeff\\ufff9-\\ufffb"\\\\]');
+  }-*/;
+
+  private static native String formatInteger(double value) /*-{
+    return '' + value;
+  }-*/;
+
+  /**
+   * Returns true if the value contains at least one character to escape.
+   */
+  private static native boolean needsEscaping(String value) /*-{
+    var regexp = @com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriter::ESCAPE_REGEXP;
+    return regexp.test(value);
+  }-*/;
+
   /** The output data, containing at most one top-level array or object. */
   private final StringBuilder out;
 
+  /** Destination of the output or null if the output is kept in {@link #out}. */
+  private final Appendable sink;
+
   private JsArrayInteger stack = JsArrayInteger.createArray().cast();
   private int stackSize = 0;
   {
@@ -55,6 +88,12 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
 
   private String deferredName;
 
+  /**
+   * The deferred name already escaped and quoted or null if it has to be
+   * escaped when written.
+   */
+  private String deferredEscapedName;
+
   private boolean serializeNulls = true;
 
   /**
@@ -65,6 +104,22 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
       throw new NullPointerException("out == null");
     }
     this.out = out;
+    this.sink = null;
+  }
+
+  /**
+   * Creates a new instance that writes a JSON-encoded stream to {@code sink}.
+   * The output is buffered and appended to the sink by chunks of about
+   * {@value #SINK_BUFFER_SIZE} characters, so the whole output is never held
+   * in memory by the writer. The remaining output is appended on
+   * {@link #flush()} and {@link #close()}.
+   */
+  public FastJsonWriter( Appendable sink ) {
+    if (sink == null) {
+      throw new NullPointerException("sink == null");
+    }
+    this.out = new StringBuilder();
+    this.sink = sink;
   }
 
   @Override
@@ -195,10 +250,25 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     return this;
   }
 
+  @Override
+  public FastJsonWriter name( String name, String escapedName ) {
+    if (escapedName == null) {
+      throw new NullPointerException("escapedName == null");
+    }
+    name(name);
+    deferredEscapedName = escapedName;
+    return this;
+  }
+
   private void writeDeferredName() {
     if (deferredName != null) {
       beforeName();
-      string(deferredName);
+      if (deferredEscapedName != null) {
+        out.append(deferredEscapedName);
+        deferredEscapedName = null;
+      } else {
+        string(deferredName);
+      }
       deferredName = null;
     }
   }
@@ -221,6 +291,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
         writeDeferredName();
       } else {
         deferredName = null;
+        deferredEscapedName = null;
         return this; // skip the name and the value
       }
     }
@@ -233,6 +304,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   public FastJsonWriter cancelName() {
     if (deferredName != null) {
       deferredName = null;
+      deferredEscapedName = null;
     }
     return this;
   }
@@ -260,7 +332,12 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   public FastJsonWriter value( long value ) {
     writeDeferredName();
     beforeValue(false);
-    out.append(Long.toString(value));
+    if (value > MAX_SAFE_INTEGER || value < -MAX_SAFE_INTEGER) {
+      out.append(Long.toString(value));
+    } else {
+      // formatting the double is a lot faster than formatting the emulated long
+      out.append(formatInteger((double) value));
+    }
     return this;
   }
 
@@ -297,6 +374,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     if (stackSize == 0) {
       throw new IllegalStateException("JsonWriter is closed.");
     }
+    drain();
   }
 
   @Override
@@ -306,11 +384,33 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
       logger.log(Level.SEVERE, "Incomplete document");
       throw new JsonSerializationException("Incomplete document");
     }
+    drain();
     stackSize = 0;
   }
 
+  /**
+   * Appends the buffered output to the sink, if any.
+   */
+  private void drain() {
+    if (sink == null || out.length() == 0) {
+      return;
+    }
+    try {
+      sink.append(out.toString());
+    } catch (IOException e) {
+      logger.log(Level.SEVERE, "Cannot write the output", e);
+      throw new JsonSerializationException(e);
+    }
+    out.setLength(0);
+  }
+
   private void string(String value) {
-    out.append(JsonUtils.escapeValue(value));
+    // most of the strings have nothing to escape, we append them directly
+    if (needsEscaping(value)) {
+      out.append(JsonUtils.escapeValue(value));
+    } else {
+      out.append('"').append(value).append('"');
+    }
   }
 
   private void newline() {
@@ -349,6 +449,9 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
    */
   @SuppressWarnings("fallthrough")
   private void beforeValue(boolean root) {
+    if (sink != null && out.length() >= SINK_BUFFER_SIZE) {
+      drain();
+    }
     switch (peek()) {
     case JsonScope.NONEMPTY_DOCUMENT:
       if (!lenient) {
@@ -384,9 +487,22 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     }
   }
 
+  /**
+   * Returns the output. When the writer targets a sink, only the output not
+   * yet appended to the sink is returned.
+   */
   @Override
   public String getOutput() {
     return out.toString();
   }
+
+  @Override
+  public void reset() {
+    out.setLength(0);
+    stackSize = 0;
+    push(JsonScope.EMPTY_DOCUMENT);
+    deferredName = null;
+    deferredEscapedName = null;
+  }
 }
 //@formatter:on
\ No newline at end of file
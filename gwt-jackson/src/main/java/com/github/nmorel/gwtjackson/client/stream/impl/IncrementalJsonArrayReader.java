@@ -0,0 +1,280 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resumable scanner splitting a top-level JSON array into its elements while the input arrives by chunks.
+ * <p>
+ * The chunks are given with {@link #append(String)} and each element is returned by {@link #nextElement()} as soon as it is
+ * complete. Only the structure of the input is checked : strings, brackets and separators. The elements are meant to be read with a
+ * {@link com.github.nmorel.gwtjackson.client.stream.JsonReader} which does the actual parsing.
+ * <p>
+ * The input already returned is dropped at the next {@link #append(String)} so the memory used is bounded by the size of the
+ * biggest element and the size of the chunks.
+ *
+ * @author Nicolas Morel
+ */
+public class IncrementalJsonArrayReader {
+
+    private static final Logger logger = Logger.getLogger( "JsonReader" );
+
+    private static final String NON_EXECUTE_PREFIX = ")]}'\n";
+
+    /**
+     * Waiting for the opening bracket of the array
+     */
+    private static final int BEFORE_ARRAY = 0;
+
+    /**
+     * After the opening bracket or a comma, waiting for an element
+     */
+    private static final int BEFORE_ELEMENT = 1;
+
+    /**
+     * Scanning an element
+     */
+    private static final int IN_ELEMENT = 2;
+
+    /**
+     * After an element, waiting for a comma or the closing bracket
+     */
+    private static final int AFTER_ELEMENT = 3;
+
+    /**
+     * After the closing bracket of the array
+     */
+    private static final int AFTER_ARRAY = 4;
+
+    private String buffer = "";
+
+    /**
+     * Position of the next character to scan
+     */
+    private int pos = 0;
+
+    /**
+     * Position of the first character of the current element
+     */
+    private int elementStart = 0;
+
+    private int state = BEFORE_ARRAY;
+
+    /**
+     * Number of opened objects and arrays inside the current element
+     */
+    private int depth = 0;
+
+    /**
+     * Quote of the current string or 0 if we are not inside a string
+     */
+    private char quote = 0;
+
+    private boolean escaped = false;
+
+    private boolean closed = false;
+
+    /**
+     * Adds a chunk of input.
+     *
+     * @param chunk the next part of the input
+     */
+    public void append( String chunk ) {
+        if ( closed ) {
+            throw new IllegalStateException( "The input is already closed" );
+        }
+
+        // we drop the part of the buffer already returned
+        int consumed = state == IN_ELEMENT ? elementStart : pos;
+        if ( consumed > 0 ) {
+            buffer = buffer.substring( consumed );
+            pos -= consumed;
+            elementStart -= consumed;
+        }
+        buffer = buffer + chunk;
+    }
+
+    /**
+     * Signals the end of the input. {@link #nextElement()} can still be called to retrieve the last elements and it will fail if the
+     * array is incomplete.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * @return true if the closing bracket of the array has been read
+     */
+    public boolean isEndOfArray() {
+        return state == AFTER_ARRAY;
+    }
+
+    /**
+     * Returns the next complete element of the array.
+     *
+     * @return the JSON representation of the next element or null if more input is needed or the array is finished
+     * @throws MalformedJsonException if the input is not a well-formed array
+     */
+    public String nextElement() {
+        while ( pos < buffer.length() ) {
+            char c = buffer.charAt( pos );
+            switch ( state ) {
+
+                case BEFORE_ARRAY:
+                    if ( isWhitespace( c ) || c == '\ufeff' ) {
+                        pos++;
+                    } else if ( c == '[' ) {
+                        state = BEFORE_ELEMENT;
+                        pos++;
+                    } else if ( c == NON_EXECUTE_PREFIX.charAt( 0 ) ) {
+                        if ( buffer.startsWith( NON_EXECUTE_PREFIX, pos ) ) {
+                            pos += NON_EXECUTE_PREFIX.length();
+                        } else if ( !closed && NON_EXECUTE_PREFIX.startsWith( buffer.substring( pos ) ) ) {
+                            // the prefix may be split between two chunks
+                            return null;
+                        } else {
+                            throw syntaxError( "Expected a JSON array" );
+                        }
+                    } else {
+                        throw syntaxError( "Expected a JSON array" );
+                    }
+                    break;
+
+                case BEFORE_ELEMENT:
+                    if ( isWhitespace( c ) ) {
+                        pos++;
+                    } else if ( c == ']' ) {
+                        state = AFTER_ARRAY;
+                        pos++;
+                    } else if ( c == ',' ) {
+                        throw syntaxError( "Unexpected ','" );
+                    } else {
+                        state = IN_ELEMENT;
+                        elementStart = pos;
+                        depth = 0;
+                    }
+                    break;
+
+                case IN_ELEMENT:
+                    String element = scanElement( c );
+                    if ( null != element ) {
+                        return element;
+                    }
+                    break;
+
+                case AFTER_ELEMENT:
+                    if ( isWhitespace( c ) ) {
+                        pos++;
+                    } else if ( c == ',' ) {
+                        state = BEFORE_ELEMENT;
+                        pos++;
+                    } else if ( c == ']' ) {
+                        state = AFTER_ARRAY;
+                        pos++;
+                    } else {
+                        throw syntaxError( "Expected ',' or ']'" );
+                    }
+                    break;
+
+                default:
+                    if ( isWhitespace( c ) ) {
+                        pos++;
+                    } else {
+                        throw syntaxError( "Unexpected character after the end of the array" );
+                    }
+            }
+        }
+
+        if ( closed && state != AFTER_ARRAY ) {
+            throw syntaxError( "End of input" );
+        }
+        return null;
+    }
+
+    /**
+     * Scans the character at the current position of an element.
+     *
+     * @return the element if the character ends it, null otherwise
+     */
+    private String scanElement( char c ) {
+        if ( quote != 0 ) {
+            pos++;
+            if ( escaped ) {
+                escaped = false;
+            } else if ( c == '\\' ) {
+                escaped = true;
+            } else if ( c == quote ) {
+                quote = 0;
+                if ( depth == 0 ) {
+                    return endElement();
+                }
+            }
+            return null;
+        }
+
+        switch ( c ) {
+            case '"':
+            case '\'':
+                quote = c;
+                pos++;
+                return null;
+            case '{':
+            case '[':
+                depth++;
+                pos++;
+                return null;
+            case '}':
+            case ']':
+                if ( depth == 0 ) {
+                    // closing bracket of the array ending a number or a literal
+                    return endElement();
+                }
+                depth--;
+                pos++;
+                return depth == 0 ? endElement() : null;
+            case ',':
+                return depth == 0 ? endElement() : advance();
+            default:
+                if ( depth == 0 && isWhitespace( c ) ) {
+                    return endElement();
+                }
+                return advance();
+        }
+    }
+
+    private String advance() {
+        pos++;
+        return null;
+    }
+
+    private String endElement() {
+        state = AFTER_ELEMENT;
+        return buffer.substring( elementStart, pos );
+    }
+
+    private static boolean isWhitespace( char c ) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private MalformedJsonException syntaxError( String message ) {
+        String mess = message + " at character " + pos + " of the buffered input";
+        logger.log( Level.SEVERE, mess );
+        throw new MalformedJsonException( mess );
+    }
+}
@@ -0,0 +1,578 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+
+/**
+ * {@link JsonReader} parsing the whole input at once with the browser's native {@code JSON.parse} and then walking the resulting
+ * JavaScript tree to serve the tokens.
+ * <p>
+ * The native parser is much faster than the character-by-character scanning done by {@link NonBufferedJsonReader} but it comes with
+ * some limitations :
+ * <ul>
+ * <li>the input must be strict JSON, the lenient syntax (unquoted names, single quotes, comments,...) is not supported. Only the
+ * <a href="NonBufferedJsonReader.html#nonexecuteprefix">non-execute prefix</a> is accepted.</li>
+ * <li>all the numbers are parsed as JavaScript numbers so integer values greater than 2^53 lose precision. Write them as strings if
+ * you need them exact.</li>
+ * <li>the position in the input is not tracked, {@link #getLineNumber()} and {@link #getColumnNumber()} always return 0.</li>
+ * <li>{@link #nextString()} on a number returns the JavaScript representation of the number and not the original text.</li>
+ * <li>the names of an object are read in the order of the properties of the parsed object : most engines read the integer-like
+ * names first in ascending order and the others in the order of the input. A map with integer keys may then be read in a different
+ * order than the one of the input.</li>
+ * <li>a duplicated name is read only once, at its first position and with its last value.</li>
+ * <li>a malformed input is rejected when the reader is created and not when the faulty token is read. Some engines accept a
+ * trailing comma or a number with a missing digit.</li>
+ * </ul>
+ *
+ * @author Nicolas Morel
+ */
+public class NativeJsonReader implements JsonReader {
+
+    /**
+     * A level of the walked tree : the container, its keys if it is an object and the index of the current value.
+     */
+    static final class Frame extends JavaScriptObject {
+
+        static native Frame newDocument( JavaScriptObject document ) /*-{
+            return {v: document, k: null, i: 0, n: false, d: true};
+        }-*/;
+
+        static native Frame newArray( JavaScriptObject array ) /*-{
+            return {v: array, k: null, i: 0, n: false, d: false};
+        }-*/;
+
+        static native Frame newObject( JavaScriptObject object ) /*-{
+            var keys = [];
+            for (var key in object) {
+                if (Object.prototype.hasOwnProperty.call(object, key)) {
+                    keys.push(key);
+                }
+            }
+            return {v: object, k: keys, i: 0, n: false, d: false};
+        }-*/;
+
+        protected Frame() {
+        }
+
+        final native int peek() /*-{
+            var value;
+            if (this.k) {
+                if (this.i >= this.k.length) {
+                    return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::END_OBJECT;
+                }
+                if (!this.n) {
+                    return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::NAME;
+                }
+                value = this.v[this.k[this.i]];
+            } else {
+                if (this.i >= this.v.length) {
+                    return this.d ? @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::END_DOCUMENT
+                        : @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::END_ARRAY;
+                }
+                value = this.v[this.i];
+            }
+
+            if (value === null || value === undefined) {
+                return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::NULL;
+            }
+            switch (typeof value) {
+                case 'string':
+                    return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::STRING;
+                case 'number':
+                    return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::NUMBER;
+                case 'boolean':
+                    return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::BOOLEAN;
+            }
+            if (Object.prototype.toString.call(value) === '[object Array]') {
+                return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::BEGIN_ARRAY;
+            }
+            return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::BEGIN_OBJECT;
+        }-*/;
+
+        final native String nextName() /*-{
+            this.n = true;
+            return this.k[this.i];
+        }-*/;
+
+        final native void skipName() /*-{
+            this.n = true;
+        }-*/;
+
+        final native JavaScriptObject getObject() /*-{
+            return this.k ? this.v[this.k[this.i]] : this.v[this.i];
+        }-*/;
+
+        final native String getString() /*-{
+            return this.k ? this.v[this.k[this.i]] : this.v[this.i];
+        }-*/;
+
+        final native String getNumberAsString() /*-{
+            return '' + (this.k ? this.v[this.k[this.i]] : this.v[this.i]);
+        }-*/;
+
+        final native double getNumber() /*-{
+            return this.k ? this.v[this.k[this.i]] : this.v[this.i];
+        }-*/;
+
+        final native boolean getBoolean() /*-{
+            return this.k ? this.v[this.k[this.i]] : this.v[this.i];
+        }-*/;
+
+        final native JavaScriptObject wrapValue() /*-{
+            return [this.k ? this.v[this.k[this.i]] : this.v[this.i]];
+        }-*/;
+
+        final native String stringify() /*-{
+            return JSON.stringify(this.k ? this.v[this.k[this.i]] : this.v[this.i]);
+        }-*/;
+
+        /**
+         * Moves to the next value of the container
+         */
+        final native void advance() /*-{
+            this.i++;
+            this.n = false;
+        }-*/;
+
+        final native int getIndex() /*-{
+            return this.i;
+        }-*/;
+
+        final native boolean isNameRead() /*-{
+            return this.n;
+        }-*/;
+
+        /**
+         * Moves back to a position returned by {@link #getIndex()} and {@link #isNameRead()}
+         */
+        final native void moveTo( int index, boolean nameRead ) /*-{
+            this.i = index;
+            this.n = nameRead;
+        }-*/;
+    }
+
+    private static final Logger logger = Logger.getLogger( "JsonReader" );
+
+    private static final String NON_EXECUTE_PREFIX = ")]}'\n";
+
+    // the constants are the index of the corresponding token in TOKENS
+    static final int BEGIN_ARRAY = 0;
+
+    static final int END_ARRAY = 1;
+
+    static final int BEGIN_OBJECT = 2;
+
+    static final int END_OBJECT = 3;
+
+    static final int NAME = 4;
+
+    static final int STRING = 5;
+
+    static final int NUMBER = 6;
+
+    static final int BOOLEAN = 7;
+
+    static final int NULL = 8;
+
+    static final int END_DOCUMENT = 9;
+
+    private static final JsonToken[] TOKENS = new JsonToken[]{JsonToken.BEGIN_ARRAY, JsonToken.END_ARRAY, JsonToken.BEGIN_OBJECT,
+            JsonToken.END_OBJECT, JsonToken.NAME, JsonToken.STRING, JsonToken.NUMBER, JsonToken.BOOLEAN, JsonToken.NULL,
+            JsonToken.END_DOCUMENT};
+
+    private static native JavaScriptObject parse( String json ) /*-{
+        // the document is wrapped inside an array so a top-level primitive value is walked like any other value
+        return [JSON.parse(json)];
+    }-*/;
+
+    private String in;
+
+    private final JsArray<Frame> stack = JavaScriptObject.createArray().cast();
+
+    private boolean lenient = false;
+
+    /**
+     * Size of the stack when {@link #mark()} was called or -1 if there is no mark. Only the position inside the top frame is saved since
+     * the reader cannot leave the array or object containing the mark.
+     */
+    private int markedStackSize = -1;
+
+    private int markedIndex;
+
+    private boolean markedNameRead;
+
+    public NativeJsonReader( String in ) {
+        setInput( in );
+    }
+
+    private void setInput( String in ) {
+        if ( null == in ) {
+            throw new NullPointerException( "in == null" );
+        }
+        this.in = in;
+
+        JavaScriptObject document;
+        try {
+            document = parse( removeNonExecutePrefix( in ) );
+        } catch ( JavaScriptException e ) {
+            String mess = "Malformed JSON input : " + e.getMessage();
+            logger.log( Level.SEVERE, mess );
+            throw new MalformedJsonException( mess );
+        }
+        stack.push( Frame.newDocument( document ) );
+    }
+
+    /**
+     * Creates a reader over an already parsed document.
+     *
+     * @param in the whole input
+     * @param document the document wrapped inside an array
+     */
+    private NativeJsonReader( String in, JavaScriptObject document ) {
+        this.in = in;
+        stack.push( Frame.newDocument( document ) );
+    }
+
+    /**
+     * Removes the byte order mark and the non-execute prefix if they exist.
+     */
+    private static String removeNonExecutePrefix( String in ) {
+        int start = 0;
+        if ( in.length() > 0 && in.charAt( 0 ) == '\ufeff' ) {
+            start++;
+        }
+        while ( start < in.length() && isWhitespace( in.charAt( start ) ) ) {
+            start++;
+        }
+        if ( in.startsWith( NON_EXECUTE_PREFIX, start ) ) {
+            start += NON_EXECUTE_PREFIX.length();
+        }
+        return start == 0 ? in : in.substring( start );
+    }
+
+    private static boolean isWhitespace( char c ) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    @Override
+    public void setLenient( boolean lenient ) {
+        this.lenient = lenient;
+    }
+
+    @Override
+    public void beginArray() {
+        Frame frame = currentFrame();
+        if ( frame.peek() == BEGIN_ARRAY ) {
+            stack.push( Frame.newArray( frame.getObject() ) );
+        } else {
+            throw unexpected( "BEGIN_ARRAY" );
+        }
+    }
+
+    @Override
+    public void endArray() {
+        if ( currentFrame().peek() == END_ARRAY ) {
+            pop();
+        } else {
+            throw unexpected( "END_ARRAY" );
+        }
+    }
+
+    @Override
+    public void beginObject() {
+        Frame frame = currentFrame();
+        if ( frame.peek() == BEGIN_OBJECT ) {
+            stack.push( Frame.newObject( frame.getObject() ) );
+        } else {
+            throw unexpected( "BEGIN_OBJECT" );
+        }
+    }
+
+    @Override
+    public void endObject() {
+        if ( currentFrame().peek() == END_OBJECT ) {
+            pop();
+        } else {
+            throw unexpected( "END_OBJECT" );
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        int p = currentFrame().peek();
+        return p != END_OBJECT && p != END_ARRAY;
+    }
+
+    @Override
+    public JsonToken peek() {
+        return TOKENS[currentFrame().peek()];
+    }
+
+    @Override
+    public String nextName() {
+        Frame frame = currentFrame();
+        if ( frame.peek() == NAME ) {
+            return frame.nextName();
+        }
+        throw unexpected( "a name" );
+    }
+
+    @Override
+    public String nextString() {
+        Frame frame = currentFrame();
+        int p = frame.peek();
+        String result;
+        if ( p == STRING ) {
+            result = frame.getString();
+        } else if ( p == NUMBER ) {
+            result = frame.getNumberAsString();
+        } else {
+            throw unexpected( "a string" );
+        }
+        frame.advance();
+        return result;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        Frame frame = currentFrame();
+        if ( frame.peek() == BOOLEAN ) {
+            boolean result = frame.getBoolean();
+            frame.advance();
+            return result;
+        }
+        throw unexpected( "a boolean" );
+    }
+
+    @Override
+    public void nextNull() {
+        Frame frame = currentFrame();
+        if ( frame.peek() == NULL ) {
+            frame.advance();
+        } else {
+            throw unexpected( "null" );
+        }
+    }
+
+    @Override
+    public double nextDouble() {
+        Frame frame = currentFrame();
+        int p = frame.peek();
+        double result;
+        if ( p == NUMBER ) {
+            result = frame.getNumber();
+        } else if ( p == STRING ) {
+            result = Double.parseDouble( frame.getString() ); // don't catch this NumberFormatException.
+            if ( !lenient && (Double.isNaN( result ) || Double.isInfinite( result )) ) {
+                String mess = "JSON forbids NaN and infinities: " + result;
+                logger.log( Level.SEVERE, mess );
+                throw new MalformedJsonException( mess );
+            }
+        } else {
+            throw unexpected( "a double" );
+        }
+        frame.advance();
+        return result;
+    }
+
+    @Override
+    public long nextLong() {
+        Frame frame = currentFrame();
+        int p = frame.peek();
+        double asDouble;
+        if ( p == NUMBER ) {
+            asDouble = frame.getNumber();
+        } else if ( p == STRING ) {
+            String value = frame.getString();
+            try {
+                long result = Long.parseLong( value );
+                frame.advance();
+                return result;
+            } catch ( NumberFormatException ignored ) {
+                // Fall back to parse as a double below.
+            }
+            asDouble = Double.parseDouble( value ); // don't catch this NumberFormatException.
+        } else {
+            throw unexpected( "a long" );
+        }
+
+        long result = (long) asDouble;
+        if ( result != asDouble ) { // Make sure no precision was lost casting to 'long'.
+            throw new NumberFormatException( "Expected a long but was " + asDouble );
+        }
+        frame.advance();
+        return result;
+    }
+
+    @Override
+    public int nextInt() {
+        Frame frame = currentFrame();
+        int p = frame.peek();
+        double asDouble;
+        if ( p == NUMBER ) {
+            asDouble = frame.getNumber();
+        } else if ( p == STRING ) {
+            String value = frame.getString();
+            try {
+                int result = Integer.parseInt( value );
+                frame.advance();
+                return result;
+            } catch ( NumberFormatException ignored ) {
+                // Fall back to parse as a double below.
+            }
+            asDouble = Double.parseDouble( value ); // don't catch this NumberFormatException.
+        } else {
+            throw unexpected( "an int" );
+        }
+
+        int result = (int) asDouble;
+        if ( result != asDouble ) { // Make sure no precision was lost casting to 'int'.
+            throw new NumberFormatException( "Expected an int but was " + asDouble );
+        }
+        frame.advance();
+        return result;
+    }
+
+    @Override
+    public void close() {
+        stack.setLength( 0 );
+    }
+
+    @Override
+    public void skipValue() {
+        Frame frame = currentFrame();
+        switch ( frame.peek() ) {
+            case NAME:
+                frame.skipName();
+                break;
+            case END_ARRAY:
+            case END_OBJECT:
+                pop();
+                break;
+            case END_DOCUMENT:
+                break;
+            default:
+                // the whole value is already parsed, we just have to move to the next one
+                frame.advance();
+        }
+    }
+
+    @Override
+    public String nextValue() {
+        Frame frame = currentFrame();
+        int p = frame.peek();
+        if ( p == NAME || p == END_ARRAY || p == END_OBJECT || p == END_DOCUMENT ) {
+            throw unexpected( "a value" );
+        }
+        String result = frame.stringify();
+        frame.advance();
+        return result;
+    }
+
+    /**
+     * Returns a reader over the already parsed value. Nothing is parsed nor copied.
+     */
+    @Override
+    public NativeJsonReader nextValueReader() {
+        Frame frame = currentFrame();
+        int p = frame.peek();
+        if ( p == NAME || p == END_ARRAY || p == END_OBJECT || p == END_DOCUMENT ) {
+            throw unexpected( "a value" );
+        }
+        NativeJsonReader reader = new NativeJsonReader( in, frame.wrapValue() );
+        reader.setLenient( true );
+        frame.advance();
+        return reader;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return 0;
+    }
+
+    @Override
+    public int getColumnNumber() {
+        return 0;
+    }
+
+    @Override
+    public String getInput() {
+        return in;
+    }
+
+    @Override
+    public void reset( String in ) {
+        stack.setLength( 0 );
+        markedStackSize = -1;
+        if ( "".equals( in ) ) {
+            // used to release the previous input, there is nothing to parse
+            this.in = in;
+            stack.push( Frame.newDocument( JavaScriptObject.createArray() ) );
+        } else {
+            setInput( in );
+        }
+    }
+
+    @Override
+    public void mark() {
+        Frame frame = currentFrame();
+        markedStackSize = stack.length();
+        markedIndex = frame.getIndex();
+        markedNameRead = frame.isNameRead();
+    }
+
+    @Override
+    public void rewind() {
+        if ( markedStackSize < 0 ) {
+            throw new IllegalStateException( "No position has been marked" );
+        }
+        stack.setLength( markedStackSize );
+        currentFrame().moveTo( markedIndex, markedNameRead );
+    }
+
+    @Override
+    public String toString() {
+        return "NativeJsonReader";
+    }
+
+    private Frame currentFrame() {
+        if ( stack.length() == 0 ) {
+            throw new IllegalStateException( "JsonReader is closed" );
+        }
+        return stack.get( stack.length() - 1 );
+    }
+
+    /**
+     * Removes the current container and moves its parent to the next value
+     */
+    private void pop() {
+        stack.setLength( stack.length() - 1 );
+        currentFrame().advance();
+    }
+
+    private IllegalStateException unexpected( String expected ) {
+        return new IllegalStateException( "Expected " + expected + " but was " + peek() );
+    }
+}
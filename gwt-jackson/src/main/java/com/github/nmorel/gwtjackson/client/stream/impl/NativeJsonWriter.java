@@ -0,0 +1,441 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * {@link JsonWriter} building a native JavaScript tree and converting it to a string with a single call to the browser's native
+ * {@code JSON.stringify} in {@link #getOutput()}. Escaping of the strings and formatting of the numbers are left to the engine.
+ * <p>
+ * Some limitations compared to {@link FastJsonWriter} :
+ * <ul>
+ * <li>the object's properties are written in the order defined by the engine : most engines write the integer-like names first in
+ * ascending order and the others in insertion order. A duplicated name replaces the previous value.</li>
+ * <li>only one top-level value is allowed, even in lenient mode.</li>
+ * <li>raw values and numbers that cannot be represented exactly by a JavaScript number (like big longs or
+ * {@link java.math.BigDecimal}) are kept out of the document. They are written as placeholders made of a random nonce, checked to
+ * be absent from the strings of the document, and replaced in the final output.</li>
+ * </ul>
+ *
+ * @author Nicolas Morel
+ */
+public class NativeJsonWriter implements JsonWriter {
+
+    private static final Logger logger = Logger.getLogger( "JsonWriter" );
+
+    /**
+     * Biggest integer that can be represented exactly by a JavaScript number
+     */
+    private static final long MAX_SAFE_INTEGER = 9007199254740991l;
+
+    /**
+     * Function adding a value to a container. The value is pushed if the container is an array or set as a property otherwise.
+     */
+    private static final JavaScriptObject PUT = createPutFunction();
+
+    private static native JavaScriptObject createPutFunction() /*-{
+        return function (container, name, value) {
+            if (name === null) {
+                container.push(value);
+            } else if (name === '__proto__') {
+                // a simple assignment would change the prototype of the object
+                Object.defineProperty(container, name, {value: value, enumerable: true, writable: true, configurable: true});
+            } else {
+                container[name] = value;
+            }
+        };
+    }-*/;
+
+    private static native void putString( JavaScriptObject container, String name, String value ) /*-{
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, value);
+    }-*/;
+
+    private static native void putNumber( JavaScriptObject container, String name, double value ) /*-{
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, value);
+    }-*/;
+
+    private static native void putBoolean( JavaScriptObject container, String name, boolean value ) /*-{
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, value);
+    }-*/;
+
+    private static native void putNull( JavaScriptObject container, String name ) /*-{
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, null);
+    }-*/;
+
+    private static native JavaScriptObject putArray( JavaScriptObject container, String name ) /*-{
+        var array = [];
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, array);
+        return array;
+    }-*/;
+
+    private static native JavaScriptObject putObject( JavaScriptObject container, String name ) /*-{
+        var object = {};
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, object);
+        return object;
+    }-*/;
+
+    /**
+     * Constructor of the objects standing for a raw value in the document. They are replaced by a placeholder string during
+     * {@code JSON.stringify} and the placeholders by the raw values in the output.
+     */
+    private static final JavaScriptObject RAW_VALUE = createRawValueConstructor();
+
+    private static native JavaScriptObject createRawValueConstructor() /*-{
+        return function (index) {
+            this.index = index;
+        };
+    }-*/;
+
+    private static native void putRawValue( JavaScriptObject container, String name, int index ) /*-{
+        var RawValue = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::RAW_VALUE;
+        var put = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::PUT;
+        put(container, name, new RawValue(index));
+    }-*/;
+
+    private static native String stringify( JavaScriptObject document, String indent, JsArrayString rawValues ) /*-{
+        // the line and paragraph separators are valid in JSON but not in a JavaScript string
+        var separators = new RegExp('[' + String.fromCharCode(0x2028, 0x2029) + ']', 'g');
+        var escapeSeparator = function (c) {
+            return '\\' + 'u' + c.charCodeAt(0).toString(16);
+        };
+
+        if (rawValues.length == 0) {
+            return JSON.stringify(document[0], null, indent).replace(separators, escapeSeparator);
+        }
+
+        // the placeholders are made of a random nonce. If the nonce is found more times than there are placeholders written, a
+        // string of the document contains it and we try again with another nonce. A raw value replaced by a duplicated name has no
+        // placeholder, so the placeholders are counted by the replacer instead of using the number of raw values.
+        var RawValue = @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter::RAW_VALUE;
+        var nonce, output, placeholders;
+        do {
+            nonce = 'gwtjackson' + Math.random().toString(36).substring(2) + ':';
+            placeholders = 0;
+            output = JSON.stringify(document[0], function (key, value) {
+                if (value instanceof RawValue) {
+                    placeholders++;
+                    return nonce + value.index;
+                }
+                return value;
+            }, indent);
+        } while (output.split(nonce).length - 1 > placeholders);
+
+        return output.replace(separators, escapeSeparator).replace(new RegExp('"' + nonce + '(\\d+)"', 'g'), function (match, index) {
+            return rawValues[index];
+        });
+    }-*/;
+
+    /**
+     * Array containing the top-level value
+     */
+    private final JavaScriptObject document = JavaScriptObject.createArray();
+
+    private final JsArray<JavaScriptObject> stack = JavaScriptObject.createArray().cast();
+
+    private final JsArrayInteger scopes = JavaScriptObject.createArray().cast();
+
+    /**
+     * Values written as-is in the output
+     */
+    private final JsArrayString rawValues = JavaScriptObject.createArray().cast();
+
+    private String indent;
+
+    private boolean lenient;
+
+    private String deferredName;
+
+    private boolean serializeNulls = true;
+
+    public NativeJsonWriter() {
+        stack.push( document );
+        scopes.push( JsonScope.EMPTY_DOCUMENT );
+    }
+
+    @Override
+    public void setIndent( String indent ) {
+        if ( indent.length() == 0 ) {
+            this.indent = null;
+        } else {
+            this.indent = indent;
+        }
+    }
+
+    @Override
+    public void setLenient( boolean lenient ) {
+        this.lenient = lenient;
+    }
+
+    @Override
+    public void setSerializeNulls( boolean serializeNulls ) {
+        this.serializeNulls = serializeNulls;
+    }
+
+    @Override
+    public boolean getSerializeNulls() {
+        return serializeNulls;
+    }
+
+    @Override
+    public NativeJsonWriter beginArray() {
+        JavaScriptObject container = currentContainer();
+        String name = beforeValue( true );
+        stack.push( putArray( container, name ) );
+        scopes.push( JsonScope.EMPTY_ARRAY );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter endArray() {
+        return close( JsonScope.EMPTY_ARRAY );
+    }
+
+    @Override
+    public NativeJsonWriter beginObject() {
+        JavaScriptObject container = currentContainer();
+        String name = beforeValue( true );
+        stack.push( putObject( container, name ) );
+        scopes.push( JsonScope.EMPTY_OBJECT );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter endObject() {
+        return close( JsonScope.EMPTY_OBJECT );
+    }
+
+    private NativeJsonWriter close( int scope ) {
+        if ( currentScope() != scope ) {
+            throw new IllegalStateException( "Nesting problem." );
+        }
+        if ( deferredName != null ) {
+            throw new IllegalStateException( "Dangling name: " + deferredName );
+        }
+        stack.setLength( stack.length() - 1 );
+        scopes.setLength( scopes.length() - 1 );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter name( String name ) {
+        if ( name == null ) {
+            throw new NullPointerException( "name == null" );
+        }
+        if ( deferredName != null ) {
+            throw new IllegalStateException();
+        }
+        if ( currentScope() != JsonScope.EMPTY_OBJECT ) {
+            throw new IllegalStateException( "Nesting problem." );
+        }
+        deferredName = name;
+        return this;
+    }
+
+    /**
+     * The escaped name is not used, the document is built with the name and escaped by {@code JSON.stringify}.
+     */
+    @Override
+    public NativeJsonWriter name( String name, String escapedName ) {
+        return name( name );
+    }
+
+    @Override
+    public NativeJsonWriter value( String value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        JavaScriptObject container = currentContainer();
+        putString( container, beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter nullValue() {
+        if ( deferredName != null && !serializeNulls ) {
+            deferredName = null;
+            return this; // skip the name and the value
+        }
+        JavaScriptObject container = currentContainer();
+        putNull( container, beforeValue( false ) );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter cancelName() {
+        deferredName = null;
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( boolean value ) {
+        JavaScriptObject container = currentContainer();
+        putBoolean( container, beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( double value ) {
+        if ( Double.isNaN( value ) || Double.isInfinite( value ) ) {
+            throw new IllegalArgumentException( "Numeric values must be finite, but was " + value );
+        }
+        JavaScriptObject container = currentContainer();
+        putNumber( container, beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( long value ) {
+        if ( value > MAX_SAFE_INTEGER || value < -MAX_SAFE_INTEGER ) {
+            return rawValue( Long.toString( value ) );
+        }
+        JavaScriptObject container = currentContainer();
+        putNumber( container, beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( Number value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+
+        if ( value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+            return value( value.intValue() );
+        }
+        if ( value instanceof Long ) {
+            return value( value.longValue() );
+        }
+
+        String string = value.toString();
+        if ( !lenient && (string.equals( "-Infinity" ) || string.equals( "Infinity" ) || string.equals( "NaN" )) ) {
+            throw new IllegalArgumentException( "Numeric values must be finite, but was " + value );
+        }
+        if ( value instanceof Double || value instanceof Float ) {
+            JavaScriptObject container = currentContainer();
+            putNumber( container, beforeValue( false ), value.doubleValue() );
+            return this;
+        }
+        return rawValue( string );
+    }
+
+    @Override
+    public NativeJsonWriter rawValue( Object value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        JavaScriptObject container = currentContainer();
+        putRawValue( container, beforeValue( false ), rawValues.length() );
+        rawValues.push( value.toString() );
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        currentScope();
+    }
+
+    @Override
+    public void close() {
+        int size = scopes.length();
+        if ( size > 1 || size == 1 && scopes.get( 0 ) != JsonScope.NONEMPTY_DOCUMENT ) {
+            logger.log( Level.SEVERE, "Incomplete document" );
+            throw new JsonSerializationException( "Incomplete document" );
+        }
+        stack.setLength( 0 );
+        scopes.setLength( 0 );
+    }
+
+    @Override
+    public String getOutput() {
+        if ( document.<JsArray<JavaScriptObject>>cast().length() == 0 ) {
+            return "";
+        }
+        return stringify( document, indent, rawValues );
+    }
+
+    @Override
+    public void reset() {
+        document.<JsArray<JavaScriptObject>>cast().setLength( 0 );
+        stack.setLength( 0 );
+        scopes.setLength( 0 );
+        rawValues.setLength( 0 );
+        deferredName = null;
+        stack.push( document );
+        scopes.push( JsonScope.EMPTY_DOCUMENT );
+    }
+
+    private int currentScope() {
+        if ( scopes.length() == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+        return scopes.get( scopes.length() - 1 );
+    }
+
+    private JavaScriptObject currentContainer() {
+        currentScope();
+        return stack.get( stack.length() - 1 );
+    }
+
+    /**
+     * Checks a value can be written in the current scope and returns the name of the value or null if the current scope is not an
+     * object.
+     *
+     * @param root true if the value is a new array or object, the two values permitted as top-level elements.
+     */
+    private String beforeValue( boolean root ) {
+        switch ( currentScope() ) {
+            case JsonScope.EMPTY_DOCUMENT:
+                if ( !lenient && !root ) {
+                    throw new IllegalStateException( "JSON must start with an array or an object." );
+                }
+                scopes.set( scopes.length() - 1, JsonScope.NONEMPTY_DOCUMENT );
+                return null;
+
+            case JsonScope.NONEMPTY_DOCUMENT:
+                throw new IllegalStateException( "JSON must have only one top-level value." );
+
+            case JsonScope.EMPTY_ARRAY:
+                return null;
+
+            case JsonScope.EMPTY_OBJECT:
+                if ( deferredName == null ) {
+                    throw new IllegalStateException( "Nesting problem." );
+                }
+                String name = deferredName;
+                deferredName = null;
+                return name;
+
+            default:
+                throw new IllegalStateException( "Nesting problem." );
+        }
+    }
+}
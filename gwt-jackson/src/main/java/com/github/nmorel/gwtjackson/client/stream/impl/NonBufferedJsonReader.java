@@ -194,7 +194,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
 
   /** The only non-execute prefix this parser permits */
   private static final char[] NON_EXECUTE_PREFIX = ")]}'\n".toCharArray();
-  private static final long MIN_INCOMPLETE_INTEGER = Long.MIN_VALUE / 10;
+  /** Biggest integer that can be represented exactly by a double */
+  private static final double MAX_SAFE_INTEGER = 9007199254740991d;
 
   private static final int PEEKED_NONE = 0;
   private static final int PEEKED_BEGIN_OBJECT = 1;
@@ -216,6 +217,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   private static final int PEEKED_LONG = 15;
   private static final int PEEKED_NUMBER = 16;
   private static final int PEEKED_EOF = 17;
+  /** When this is returned, the integer value is stored in peekedInteger. */
+  private static final int PEEKED_INTEGER = 18;
 
   /* State machine when parsing numbers */
   private static final int NUMBER_CHAR_NONE = 0;
@@ -228,13 +231,13 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   private static final int NUMBER_CHAR_EXP_DIGIT = 7;
 
   /** The input JSON. */
-  private final String in;
+  private String in;
 
   /** True to accept non-spec compliant JSON */
   private boolean lenient = false;
 
   private int pos = 0;
-  private final int limit;
+  private int limit;
 
   private int lineNumber = 0;
   private int lineStart = 0;
@@ -247,6 +250,12 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
    */
   private long peekedLong;
 
+  /**
+   * Same as {@link #peekedLong} when the value can be represented exactly by a
+   * double. It avoids the emulated long arithmetic for most of the integers.
+   */
+  private double peekedInteger;
+
   /**
    * The number of characters in a peeked number literal. Increment 'pos' by
    * this after reading a number.
@@ -269,19 +278,39 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
   }
 
+  /*
+   * The state saved by mark(). Only the top of the stack is saved since the
+   * reader cannot leave the array or object containing the mark.
+   */
+  private int markedPos = -1;
+  private int markedLineNumber;
+  private int markedLineStart;
+  private int markedPeeked;
+  private long markedPeekedLong;
+  private double markedPeekedInteger;
+  private int markedPeekedNumberLength;
+  private String markedPeekedString;
+  private int markedStackSize;
+  private int markedTop;
+
   /**
    * Creates a new instance that reads a JSON-encoded stream from {@code in}.
    */
   public NonBufferedJsonReader( String in ) {
-    if (in == null) {
-      throw new NullPointerException("in == null");
-    }
+    setInput(in);
+  }
+
+  /**
+   * Creates a new instance that reads the value between {@code start} and
+   * {@code end} of {@code in}. The line number and the line start are given
+   * so the positions reported are the ones in the whole input.
+   */
+  private NonBufferedJsonReader( String in, int start, int end, int lineNumber, int lineStart ) {
     this.in = in;
-    this.limit = in.length();
-    if (limit > 0 && in.charAt( 0 ) == '\ufeff') {
-      pos++;
-      lineStart++;
-    }
+    this.pos = start;
+    this.limit = end;
+    this.lineNumber = lineNumber;
+    this.lineStart = lineStart;
   }
 
   /**
@@ -430,6 +459,7 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     case PEEKED_BUFFERED:
       return JsonToken.STRING;
     case PEEKED_LONG:
+    case PEEKED_INTEGER:
     case PEEKED_NUMBER:
       return JsonToken.NUMBER;
     case PEEKED_EOF:
@@ -629,9 +659,9 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
 
   private int peekNumber()
   {
-    long value = 0; // Negative to accommodate Long.MIN_VALUE more easily.
+    double value = 0;
     boolean negative = false;
-    boolean fitsInLong = true;
+    boolean fitsInDouble = true;
     int last = NUMBER_CHAR_NONE;
 
     int i = 0;
@@ -685,16 +715,15 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
           return PEEKED_NONE;
         }
         if (last == NUMBER_CHAR_SIGN || last == NUMBER_CHAR_NONE) {
-          value = -(c - '0');
+          value = c - '0';
           last = NUMBER_CHAR_DIGIT;
         } else if (last == NUMBER_CHAR_DIGIT) {
           if (value == 0) {
             return PEEKED_NONE; // Leading '0' prefix is not allowed (since it could be octal).
           }
-          long newValue = value * 10 - (c - '0');
-          fitsInLong &= value > MIN_INCOMPLETE_INTEGER
-              || (value == MIN_INCOMPLETE_INTEGER && newValue < value);
-          value = newValue;
+          // the value is exact as long as it stays below MAX_SAFE_INTEGER
+          value = value * 10 + (c - '0');
+          fitsInDouble &= value <= MAX_SAFE_INTEGER;
         } else if (last == NUMBER_CHAR_DECIMAL) {
           last = NUMBER_CHAR_FRACTION_DIGIT;
         } else if (last == NUMBER_CHAR_EXP_E || last == NUMBER_CHAR_EXP_SIGN) {
@@ -703,12 +732,23 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       }
     }
 
-    // We've read a complete number. Decide if it's a PEEKED_LONG or a PEEKED_NUMBER.
-    if (last == NUMBER_CHAR_DIGIT && fitsInLong && (value != Long.MIN_VALUE || negative)) {
-      peekedLong = negative ? value : -value;
-      pos += i;
-      return peeked = PEEKED_LONG;
-    } else if (last == NUMBER_CHAR_DIGIT || last == NUMBER_CHAR_FRACTION_DIGIT
+    // We've read a complete number. Decide if it's a PEEKED_INTEGER, a PEEKED_LONG or a PEEKED_NUMBER.
+    if (last == NUMBER_CHAR_DIGIT) {
+      if (fitsInDouble) {
+        peekedInteger = negative ? -value : value;
+        pos += i;
+        return peeked = PEEKED_INTEGER;
+      }
+      try {
+        // only the integers too big for a double use the emulated long
+        peekedLong = Long.parseLong(in.substring(pos, pos + i));
+        pos += i;
+        return peeked = PEEKED_LONG;
+      } catch (NumberFormatException ignored) {
+        // too big for a long, it is kept as a number
+      }
+    }
+    if (last == NUMBER_CHAR_DIGIT || last == NUMBER_CHAR_FRACTION_DIGIT
         || last == NUMBER_CHAR_EXP_DIGIT) {
       peekedNumberLength = i;
       return peeked = PEEKED_NUMBER;
@@ -784,6 +824,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       peekedString = null;
     } else if (p == PEEKED_LONG) {
       result = Long.toString( peekedLong );
+    } else if (p == PEEKED_INTEGER) {
+      result = formatInteger( peekedInteger );
     } else if (p == PEEKED_NUMBER) {
       result = in.substring( pos, pos + peekedNumberLength);
       pos += peekedNumberLength;
@@ -836,6 +878,11 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       p = doPeek();
     }
 
+    if (p == PEEKED_INTEGER) {
+      peeked = PEEKED_NONE;
+      return peekedInteger;
+    }
+
     if (p == PEEKED_LONG) {
       peeked = PEEKED_NONE;
       return (double) peekedLong;
@@ -871,6 +918,11 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       p = doPeek();
     }
 
+    if (p == PEEKED_INTEGER) {
+      peeked = PEEKED_NONE;
+      return (long) peekedInteger;
+    }
+
     if (p == PEEKED_LONG) {
       peeked = PEEKED_NONE;
       return peekedLong;
@@ -1042,6 +1094,16 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     }
 
     int result;
+    if (p == PEEKED_INTEGER) {
+      result = (int) peekedInteger;
+      if (peekedInteger != result) { // Make sure no precision was lost casting to 'int'.
+        throw new NumberFormatException("Expected an int but was " + formatInteger( peekedInteger )
+            + " at line " + getLineNumber() + " column " + getColumnNumber());
+      }
+      peeked = PEEKED_NONE;
+      return result;
+    }
+
     if (p == PEEKED_LONG) {
       result = (int) peekedLong;
       if (peekedLong != result) { // Make sure no precision was lost casting to 'int'.
@@ -1381,6 +1443,109 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     return in;
   }
 
+  @Override
+  public void reset( String in ) {
+    setInput(in);
+    peeked = PEEKED_NONE;
+    peekedString = null;
+    stackSize = 0;
+    stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
+    markedPos = -1;
+    markedPeekedString = null;
+  }
+
+  @Override
+  public void mark() {
+    markedPos = pos;
+    markedLineNumber = lineNumber;
+    markedLineStart = lineStart;
+    markedPeeked = peeked;
+    markedPeekedLong = peekedLong;
+    markedPeekedInteger = peekedInteger;
+    markedPeekedNumberLength = peekedNumberLength;
+    markedPeekedString = peekedString;
+    markedStackSize = stackSize;
+    markedTop = stack.get(stackSize - 1);
+  }
+
+  @Override
+  public void rewind() {
+    if (markedPos < 0) {
+      throw new IllegalStateException("No position has been marked");
+    }
+    pos = markedPos;
+    lineNumber = markedLineNumber;
+    lineStart = markedLineStart;
+    peeked = markedPeeked;
+    peekedLong = markedPeekedLong;
+    peekedInteger = markedPeekedInteger;
+    peekedNumberLength = markedPeekedNumberLength;
+    peekedString = markedPeekedString;
+    stackSize = markedStackSize;
+    stack.set(stackSize - 1, markedTop);
+  }
+
+  private void setInput( String in ) {
+    if (in == null) {
+      throw new NullPointerException("in == null");
+    }
+    this.in = in;
+    this.pos = 0;
+    this.limit = in.length();
+    this.lineNumber = 0;
+    this.lineStart = 0;
+    if (limit > 0 && in.charAt( 0 ) == '\ufeff') {
+      pos++;
+      lineStart++;
+    }
+  }
+
+  /**
+   * Returns a reader over the range of the input containing the next value.
+   * The input is shared, the value is only scanned to find its end.
+   */
+  @Override
+  public NonBufferedJsonReader nextValueReader()
+  {
+    int p = peeked;
+    if (p == PEEKED_NONE) {
+      p = doPeek();
+    }
+
+    int start;
+    if (p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT
+        || p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+      // the bracket or the quote has already been consumed
+      start = pos - 1;
+    } else if (p == PEEKED_NUMBER || p == PEEKED_UNQUOTED) {
+      start = pos;
+    } else if (p == PEEKED_NULL) {
+      // the literal can be implicit in lenient mode so we don't read it from the input
+      peeked = PEEKED_NONE;
+      return newLiteralReader("null");
+    } else if (p == PEEKED_TRUE || p == PEEKED_FALSE || p == PEEKED_LONG || p == PEEKED_INTEGER || p == PEEKED_BUFFERED) {
+      // the literal has already been consumed, we copy it
+      return newLiteralReader(nextValue());
+    } else {
+      throw new IllegalStateException("Expected a value but was " + peek()
+          + " at line " + getLineNumber() + " column " + getColumnNumber());
+    }
+
+    int startLineNumber = lineNumber;
+    int startLineStart = lineStart;
+    skipValue();
+
+    NonBufferedJsonReader reader = new NonBufferedJsonReader(in, start, pos, startLineNumber, startLineStart);
+    reader.setLenient(true);
+    return reader;
+  }
+
+  private NonBufferedJsonReader newLiteralReader(String literal) {
+    NonBufferedJsonReader reader = new NonBufferedJsonReader(literal);
+    reader.setLenient(true);
+    return reader;
+  }
+
   @Override
   public String nextValue()
   {
@@ -1392,6 +1557,14 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
         p = doPeek();
       }
 
+      if (p != PEEKED_END_ARRAY && p != PEEKED_END_OBJECT && builder.length() > 0) {
+        // separator between two elements of an array or two members of an object
+        char last = builder.charAt(builder.length() - 1);
+        if (last != '[' && last != '{' && last != ':') {
+          builder.append(',');
+        }
+      }
+
       if (p == PEEKED_BEGIN_ARRAY) {
         push(JsonScope.EMPTY_ARRAY);
         count++;
@@ -1438,8 +1611,12 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
         builder.append( true );
       } else if (p == PEEKED_FALSE) {
         builder.append( false );
+      } else if (p == PEEKED_NULL) {
+        builder.append( "null" );
       } else if (p == PEEKED_LONG) {
         builder.append( peekedLong );
+      } else if (p == PEEKED_INTEGER) {
+        builder.append( formatInteger( peekedInteger ) );
       } else if (p == PEEKED_BUFFERED) {
         builder.append( peekedString );
       }
@@ -1448,5 +1625,12 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
 
     return builder.toString();
   }
+
+  /**
+   * Formats an integer stored in a double without the decimal part added by
+   * {@link Double#toString(double)} in development mode.
+   */
+  private static native String formatInteger(double value) /*-{
+    return '' + value;
+  }-*/;
 }
-//@formatter:on
\ No newline at end of file
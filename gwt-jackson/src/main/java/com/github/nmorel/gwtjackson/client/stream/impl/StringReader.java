@@ -40,6 +40,23 @@ public class StringReader {
         return in;
     }
 
+    /**
+     * @return the position of the next character to read
+     */
+    public int getPosition() {
+        return next;
+    }
+
+    /**
+     * @param position the position of the next character to read
+     */
+    public void setPosition( int position ) {
+        if ( position < 0 || position > length ) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.next = position;
+    }
+
     /**
      * Reads characters into a portion of an array.
      *
@@ -16,6 +16,8 @@
  */
 
 package com.github.nmorel.gwtjackson.client.utils;
+
+import com.google.gwt.core.client.GWT;
 /**
  * Custom Base64 encode/decode implementation suitable for use in
  * GWT applications (uses only translatable classes).
@@ -104,5 +106,116 @@ public class Base64 {
 
         return out.toString();
     }
+
+    /**
+     * Encodes the bytes in base64. In compiled mode, the browser's native btoa is used when available.
+     *
+     * @param data the bytes to encode
+     * @return the base64 representation of the bytes
+     */
+    public static String encode(byte[] data) {
+        if (GWT.isScript() && isNativeSupported()) {
+            return encodeNative(data);
+        }
+        StringBuilder out = new StringBuilder(((data.length + 2) / 3) * 4);
+        for (int i = 0; i < data.length; i += 3) {
+            int d0 = data[i] & 0xff;
+            int d1 = i + 1 < data.length ? data[i + 1] & 0xff : 0;
+            int d2 = i + 2 < data.length ? data[i + 2] & 0xff : 0;
+            out.append(etab.charAt(d0 >>> 2));
+            out.append(etab.charAt(((d0 & 0x03) << 4) | (d1 >>> 4)));
+            out.append(i + 1 < data.length ? etab.charAt(((d1 & 0x0f) << 2) | (d2 >>> 6)) : '=');
+            out.append(i + 2 < data.length ? etab.charAt(d2 & 0x3f) : '=');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Decodes a base64 string into bytes. In compiled mode, the browser's native atob is used when available.
+     *
+     * @param data the base64 string
+     * @return the decoded bytes or an empty array if the input is not valid base64
+     */
+    public static byte[] decodeBytes(String data) {
+        if (GWT.isScript() && isNativeSupported()) {
+            String binary = decodeNative(data);
+            if (null == binary) {
+                return new byte[0];
+            }
+            byte[] out = new byte[binary.length()];
+            for (int i = 0; i < out.length; i++) {
+                out[i] = (byte) binary.charAt(i);
+            }
+            return out;
+        }
+
+        // length must be multiple of 4 (with padding)
+        if (data.length() % 4 != 0)
+            return new byte[0];
+        byte[] out = new byte[data.length() / 4 * 3];
+        int length = 0;
+        for (int i = 0; i < data.length();) {
+            byte e0 = dtab[data.charAt(i++) & 0x7f];
+            byte e1 = dtab[data.charAt(i++) & 0x7f];
+            byte e2 = dtab[data.charAt(i++) & 0x7f];
+            byte e3 = dtab[data.charAt(i++) & 0x7f];
+            // Invalid characters or padding in input
+            if (e0 == -1 || e1 == -1 || e2 == -1 || e3 == -1 || e0 == 64 || e1 == 64 || (e2 == 64 && e3 != 64))
+                return new byte[0];
+            out[length++] = (byte) ((e0 << 2) | (e1 >>> 4));
+            if (e2 != 64)
+                out[length++] = (byte) ((e1 << 4) | (e2 >>> 2));
+            if (e3 != 64)
+                out[length++] = (byte) ((e2 << 6) | e3);
+        }
+        if (length == out.length) {
+            return out;
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(out, 0, result, 0, length);
+        return result;
+    }
+
+    private static Boolean nativeSupported;
+
+    private static boolean isNativeSupported() {
+        if (null == nativeSupported) {
+            nativeSupported = checkNativeSupport();
+        }
+        return nativeSupported;
+    }
+
+    /**
+     * Some implementations of atob and btoa do not handle the characters above 127 so we check them with a byte above 127.
+     */
+    private static native boolean checkNativeSupport() /*-{
+        try {
+            return !!$wnd.atob && !!$wnd.btoa && $wnd.btoa(String.fromCharCode(0xfe)) === '/g=='
+                && $wnd.atob('/g==').charCodeAt(0) === 0xfe;
+        } catch (e) {
+            return false;
+        }
+    }-*/;
+
+    private static native String encodeNative(byte[] data) /*-{
+        // the binary string is built by chunks to stay under the limit of arguments of a function call
+        var chunks = [];
+        for (var i = 0, length = data.length; i < length; i += 8192) {
+            var chunk = [];
+            for (var j = i, end = Math.min(i + 8192, length); j < end; j++) {
+                chunk.push(data[j] & 0xff);
+            }
+            chunks.push(String.fromCharCode.apply(null, chunk));
+        }
+        return $wnd.btoa(chunks.join(''));
+    }-*/;
+
+    private static native String decodeNative(String data) /*-{
+        try {
+            return $wnd.atob(data);
+        } catch (e) {
+            return null;
+        }
+    }-*/;
 }
 //@formatter:on
\ No newline at end of file
@@ -82,6 +82,12 @@ public final class DateFormat {
      */
     public static final TimeZone UTC_TIMEZONE = TimeZone.createTimeZone( 0 );
 
+    private static final String ISO8601_PATTERN = DATE_FORMAT_STR_ISO8601.getPattern();
+
+    private static final String ISO8601_Z_PATTERN = DATE_FORMAT_STR_ISO8601_Z.getPattern();
+
+    private static final String PLAIN_PATTERN = DATE_FORMAT_STR_PLAIN.getPattern();
+
     private static final Map<String, DateParser> CACHE_PARSERS = new HashMap<String, DateParser>();
 
     /**
@@ -92,6 +98,10 @@ public final class DateFormat {
      * @return the formatted date
      */
     public static String format( Date date ) {
+        String result = Iso8601DateFormat.formatDateTime( date );
+        if ( null != result ) {
+            return result;
+        }
         return format( DateFormat.DATE_FORMAT_STR_ISO8601, DateFormat.UTC_TIMEZONE, date );
     }
 
@@ -104,6 +114,11 @@ public final class DateFormat {
      * @return the formatted date
      */
     public static String format( String pattern, Date date ) {
+        String result = formatIso8601( pattern, date );
+        if ( null != result ) {
+            return result;
+        }
+
         DateTimeFormat dateTimeFormat;
         if ( null == pattern ) {
             dateTimeFormat = DateFormat.DATE_FORMAT_STR_ISO8601;
@@ -114,6 +129,23 @@ public final class DateFormat {
         return format( dateTimeFormat, UTC_TIMEZONE, date );
     }
 
+    /**
+     * Format a date with {@link Iso8601DateFormat} if the pattern is one of the default ISO-8601 patterns.
+     *
+     * @return the formatted date or null if the pattern or the date is not handled
+     */
+    private static String formatIso8601( String pattern, Date date ) {
+        if ( null == pattern || ISO8601_PATTERN.equals( pattern ) ) {
+            return Iso8601DateFormat.formatDateTime( date );
+        } else if ( ISO8601_Z_PATTERN.equals( pattern ) ) {
+            return Iso8601DateFormat.formatDateTimeZ( date );
+        } else if ( PLAIN_PATTERN.equals( pattern ) ) {
+            return Iso8601DateFormat.formatDate( date );
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Format a date using the {@link DateTimeFormat} and {@link TimeZone} given in
      * parameters
@@ -136,6 +168,10 @@ public final class DateFormat {
      * @return the parsed date
      */
     public static Date parse( String date ) {
+        Date result = Iso8601DateFormat.parseDateTime( date );
+        if ( null != result ) {
+            return result;
+        }
         return parse( DateFormat.DATE_FORMAT_STR_ISO8601, date );
     }
 
@@ -148,6 +184,11 @@ public final class DateFormat {
      * @return the parsed date
      */
     public static Date parse( String pattern, String date ) {
+        Date result = parseIso8601( pattern, date );
+        if ( null != result ) {
+            return result;
+        }
+
         if ( null == pattern ) {
             return parse( DateFormat.DATE_FORMAT_STR_ISO8601, date );
         } else {
@@ -165,6 +206,23 @@ public final class DateFormat {
         }
     }
 
+    /**
+     * Parse a date with {@link Iso8601DateFormat} if the pattern is one of the default ISO-8601 patterns.
+     *
+     * @return the parsed date or null if the pattern or the date is not handled
+     */
+    private static Date parseIso8601( String pattern, String date ) {
+        if ( null == pattern || ISO8601_PATTERN.equals( pattern ) ) {
+            return Iso8601DateFormat.parseDateTime( date );
+        } else if ( ISO8601_Z_PATTERN.equals( pattern ) ) {
+            return Iso8601DateFormat.parseDateTimeZ( date );
+        } else if ( PLAIN_PATTERN.equals( pattern ) ) {
+            return Iso8601DateFormat.parseDate( date );
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Find if a pattern contains informations about the timezone.
      *
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.Date;
+
+/**
+ * Formats and parses the ISO-8601 patterns used by default without going through {@link com.google.gwt.i18n.client.DateTimeFormat}.
+ * The fields are computed from the milliseconds with int and double arithmetic, there is no calendar nor long involved.
+ * <p>
+ * Only the years between 1583 and 9999 and the canonical representations are handled. Before 1583, {@link Date} uses the Julian
+ * calendar and the proleptic Gregorian computation done here would differ. The methods return null for anything else so the caller
+ * can fall back to {@link com.google.gwt.i18n.client.DateTimeFormat}.
+ *
+ * @author Nicolas Morel
+ */
+public final class Iso8601DateFormat {
+
+    private static final double MILLIS_PER_DAY = 86400000d;
+
+    private static final int MIN_YEAR = 1583;
+
+    private static final int MAX_YEAR = 9999;
+
+    /**
+     * Formats a date in UTC with the pattern yyyy-MM-dd'T'HH:mm:ss.SSSZ
+     *
+     * @param date date to format
+     *
+     * @return the formatted date or null if the year is not handled
+     */
+    public static String formatDateTime( Date date ) {
+        return format( date, true, false );
+    }
+
+    /**
+     * Formats a date in UTC with the pattern yyyy-MM-dd'T'HH:mm:ss.SSS'Z'
+     *
+     * @param date date to format
+     *
+     * @return the formatted date or null if the year is not handled
+     */
+    public static String formatDateTimeZ( Date date ) {
+        return format( date, true, true );
+    }
+
+    /**
+     * Formats a date in UTC with the pattern yyyy-MM-dd
+     *
+     * @param date date to format
+     *
+     * @return the formatted date or null if the year is not handled
+     */
+    public static String formatDate( Date date ) {
+        return format( date, false, false );
+    }
+
+    private static String format( Date date, boolean withTime, boolean zulu ) {
+        double millis = date.getTime();
+        int days = (int) Math.floor( millis / MILLIS_PER_DAY );
+        int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+
+        // civil date from the number of days since epoch
+        int z = days + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if ( year < MIN_YEAR || year > MAX_YEAR ) {
+            return null;
+        }
+
+        char[] buffer = new char[withTime ? (zulu ? 24 : 28) : 10];
+        write( buffer, 0, year, 4 );
+        buffer[4] = '-';
+        write( buffer, 5, month, 2 );
+        buffer[7] = '-';
+        write( buffer, 8, day, 2 );
+        if ( withTime ) {
+            buffer[10] = 'T';
+            write( buffer, 11, millisOfDay / 3600000, 2 );
+            buffer[13] = ':';
+            write( buffer, 14, millisOfDay / 60000 % 60, 2 );
+            buffer[16] = ':';
+            write( buffer, 17, millisOfDay / 1000 % 60, 2 );
+            buffer[19] = '.';
+            write( buffer, 20, millisOfDay % 1000, 3 );
+            if ( zulu ) {
+                buffer[23] = 'Z';
+            } else {
+                buffer[23] = '+';
+                write( buffer, 24, 0, 4 );
+            }
+        }
+        return new String( buffer );
+    }
+
+    private static void write( char[] buffer, int offset, int value, int length ) {
+        for ( int i = offset + length - 1; i >= offset; i-- ) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Parses a date with the pattern yyyy-MM-dd'T'HH:mm:ss.SSSZ. The offset can be written +hhmm, +hh:mm or Z.
+     *
+     * @param date date to parse
+     *
+     * @return the parsed date or null if the input is not in the canonical form
+     */
+    public static Date parseDateTime( String date ) {
+        int length = date.length();
+        int offsetMinutes;
+        if ( length == 24 && date.charAt( 23 ) == 'Z' ) {
+            offsetMinutes = 0;
+        } else if ( length == 28 || (length == 29 && date.charAt( 26 ) == ':') ) {
+            int sign;
+            char c = date.charAt( 23 );
+            if ( c == '+' ) {
+                sign = 1;
+            } else if ( c == '-' ) {
+                sign = -1;
+            } else {
+                return null;
+            }
+            int hours = read( date, 24, 2 );
+            int minutes = read( date, length - 2, 2 );
+            if ( hours < 0 || hours > 23 || minutes < 0 || minutes > 59 ) {
+                return null;
+            }
+            offsetMinutes = sign * (hours * 60 + minutes);
+        } else {
+            return null;
+        }
+        return parse( date, true, offsetMinutes );
+    }
+
+    /**
+     * Parses a date in UTC with the pattern yyyy-MM-dd'T'HH:mm:ss.SSS'Z'
+     *
+     * @param date date to parse
+     *
+     * @return the parsed date or null if the input is not in the canonical form
+     */
+    public static Date parseDateTimeZ( String date ) {
+        if ( date.length() != 24 || date.charAt( 23 ) != 'Z' ) {
+            return null;
+        }
+        return parse( date, true, 0 );
+    }
+
+    /**
+     * Parses a date in UTC with the pattern yyyy-MM-dd
+     *
+     * @param date date to parse
+     *
+     * @return the parsed date or null if the input is not in the canonical form
+     */
+    public static Date parseDate( String date ) {
+        if ( date.length() != 10 ) {
+            return null;
+        }
+        return parse( date, false, 0 );
+    }
+
+    private static Date parse( String date, boolean withTime, int offsetMinutes ) {
+        if ( date.charAt( 4 ) != '-' || date.charAt( 7 ) != '-' ) {
+            return null;
+        }
+        int year = read( date, 0, 4 );
+        int month = read( date, 5, 2 );
+        int day = read( date, 8, 2 );
+        if ( year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12 || day < 1 || day > daysInMonth( year, month ) ) {
+            return null;
+        }
+
+        double millis = daysFromCivil( year, month, day ) * MILLIS_PER_DAY;
+        if ( withTime ) {
+            if ( date.charAt( 10 ) != 'T' || date.charAt( 13 ) != ':' || date.charAt( 16 ) != ':' || date.charAt( 19 ) != '.' ) {
+                return null;
+            }
+            int hour = read( date, 11, 2 );
+            int minute = read( date, 14, 2 );
+            int second = read( date, 17, 2 );
+            int milli = read( date, 20, 3 );
+            if ( hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || milli < 0 ) {
+                return null;
+            }
+            millis += ((hour * 60 + minute - offsetMinutes) * 60 + second) * 1000 + milli;
+        }
+        return new Date( (long) millis );
+    }
+
+    /**
+     * @return the number read or -1 if one of the characters is not a digit
+     */
+    private static int read( String date, int offset, int length ) {
+        int value = 0;
+        for ( int i = offset; i < offset + length; i++ ) {
+            char c = date.charAt( i );
+            if ( c < '0' || c > '9' ) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth( int year, int month ) {
+        if ( month == 2 ) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static int daysFromCivil( int year, int month, int day ) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private Iso8601DateFormat() {}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Identity map backed by a native object. It must only be used in script mode.
+ * <p>
+ * Each key receives a non-enumerable expando property holding a unique identifier the first time it is put in a map and this
+ * identifier is used as the property name in the native object. There is no hashing, no equality check and no entry allocated.
+ * <p>
+ * The identifier cannot be added to frozen or non-extensible objects. {@link #put(Object, Object)} refuses them and the caller has
+ * to keep them elsewhere.
+ *
+ * @param <V> the type of values stored in the Map
+ *
+ * @author Nicolas Morel
+ */
+public final class NativeIdentityMap<V> extends JavaScriptObject {
+
+    private static int nextId = 0;
+
+    /**
+     * @param <V> the type of values stored in the Map
+     *
+     * @return a new empty map
+     */
+    public static <V> NativeIdentityMap<V> create() {
+        return createObject().cast();
+    }
+
+    /**
+     * Returns the unique identifier of an object, assigning one if it has none yet. Strings have no identity so they are identified
+     * by their value.
+     *
+     * @param object the object
+     *
+     * @return the identifier of the object or null if the object is frozen or not extensible and has no identifier yet
+     */
+    public static native String identityId( Object object ) /*-{
+        if (typeof object == 'string') {
+            return ':' + object;
+        }
+        var id = object.__gwtjacksonId;
+        if (id === undefined) {
+            id = @com.github.nmorel.gwtjackson.client.utils.NativeIdentityMap::nextId + 1;
+            @com.github.nmorel.gwtjackson.client.utils.NativeIdentityMap::nextId = id;
+            id = '' + id;
+            try {
+                // not enumerable so the identifier does not appear in for..in loops or in JSON.stringify output
+                Object.defineProperty(object, '__gwtjacksonId', {value: id});
+            } catch (e) {
+                // Object.defineProperty is missing or only works on DOM objects (IE8)
+                object.__gwtjacksonId = id;
+            }
+            if (object.__gwtjacksonId !== id) {
+                // frozen or not extensible, the property has been silently ignored
+                return null;
+            }
+        }
+        return id;
+    }-*/;
+
+    protected NativeIdentityMap() {
+    }
+
+    /**
+     * Get the value associated to a key.
+     *
+     * @param key the key
+     *
+     * @return value associated to the key or {@code null} otherwise
+     */
+    public final native V get( Object key ) /*-{
+        var id = typeof key == 'string' ? ':' + key : key.__gwtjacksonId;
+        if (id === undefined) {
+            return null;
+        }
+        var value = this[id];
+        return value === undefined ? null : value;
+    }-*/;
+
+    /**
+     * Put the value in the map at the given key.
+     *
+     * @param key the key
+     * @param value value to be stored
+     *
+     * @return false if the key cannot receive an identifier and the value has not been stored
+     */
+    public final boolean put( Object key, V value ) {
+        String id = identityId( key );
+        if ( null == id ) {
+            return false;
+        }
+        putById( id, value );
+        return true;
+    }
+
+    private native void putById( String id, V value ) /*-{
+        this[id] = value;
+    }-*/;
+}
@@ -414,4 +414,40 @@ public abstract class AbstractBeanJsonCreator extends AbstractCreator {
             }
         }
     }
+
+    /**
+     * Returns the condition testing if the active view stored in the given variable includes the property. The included views are
+     * resolved at generation time so the test is a simple comparison of class references.
+     */
+    protected String getViewCondition( String viewVariable, List<JClassType> views ) {
+        StringBuilder builder = new StringBuilder();
+        for ( JClassType view : views ) {
+            if ( builder.length() > 0 ) {
+                builder.append( " || " );
+            }
+            builder.append( viewVariable ).append( " == " ).append( view.getQualifiedSourceName() ).append( ".class" );
+        }
+        return builder.length() > 0 ? builder.toString() : "false";
+    }
+
+    protected void generateIsIncludedInViewMethod( SourceWriter source, PropertyInfo property ) {
+        if ( property.getViews().isPresent() ) {
+            source.println();
+            source.println( "@Override" );
+            source.println( "public boolean isIncludedInView(%s<?> view) {", Class.class.getCanonicalName() );
+            source.indent();
+            source.println( "return %s;", getViewCondition( "view", property.getViews().get() ) );
+            source.outdent();
+            source.println( "}" );
+        }
+    }
+
+    protected void generateIsDefaultArrayShapeMethod( SourceWriter source ) {
+        source.println( "@Override" );
+        source.println( "protected boolean isDefaultArrayShape() {" );
+        source.indent();
+        source.println( "return true;" );
+        source.outdent();
+        source.println( "}" );
+    }
 }
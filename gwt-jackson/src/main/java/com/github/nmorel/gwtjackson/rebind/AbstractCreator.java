@@ -324,8 +324,8 @@ public abstract class AbstractCreator extends AbstractSourceCreator {
 
         JEnumType enumType = type.isEnum();
         if ( null != enumType ) {
-            return builder.instance( EnumJsonDeserializer.class.getCanonicalName() + ".newInstance(" + enumType
-                    .getQualifiedSourceName() + ".class)" ).build();
+            return builder.instance( String.format( "%s.newInstance(%s.class, %s.values())", EnumJsonDeserializer.class
+                    .getCanonicalName(), enumType.getQualifiedSourceName(), enumType.getQualifiedSourceName() ) ).build();
         }
 
         JArrayType arrayType = type.isArray();
@@ -442,8 +442,8 @@ public abstract class AbstractCreator extends AbstractSourceCreator {
 
         JEnumType enumType = type.isEnum();
         if ( null != enumType ) {
-            builder.instance( String.format( "%s.newInstance(%s.class)", EnumKeyDeserializer.class.getCanonicalName(), enumType
-                    .getQualifiedSourceName() ) );
+            builder.instance( String.format( "%s.newInstance(%s.class, %s.values())", EnumKeyDeserializer.class.getCanonicalName(),
+                    enumType.getQualifiedSourceName(), enumType.getQualifiedSourceName() ) );
             return builder.build();
         }
 
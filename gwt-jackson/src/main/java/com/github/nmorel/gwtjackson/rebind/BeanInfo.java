@@ -28,6 +28,8 @@ import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -89,6 +91,11 @@ public final class BeanInfo {
             result.propertyOrderList = Collections.emptyList();
         }
 
+        JsonFormat jsonFormat = findFirstEncounteredAnnotationsOnAllHierarchy( mapperInfo.getType(), JsonFormat.class );
+        if ( null != jsonFormat ) {
+            result.shape = jsonFormat.shape();
+        }
+
         result.identityInfo = Optional.fromNullable( BeanIdentityInfo.process( logger, typeOracle, mapperInfo.getType() ) );
         result.typeInfo = Optional.fromNullable( BeanTypeInfo.process( logger, typeOracle, mapperInfo.getType() ) );
 
@@ -226,6 +233,9 @@ public final class BeanInfo {
     /*####  Identity info  ####*/
     private Optional<BeanIdentityInfo> identityInfo = Optional.absent();
 
+    /*####  Format  ####*/
+    private Shape shape = Shape.ANY;
+
     private BeanInfo() {
 
     }
@@ -301,4 +311,8 @@ public final class BeanInfo {
     public Optional<BeanIdentityInfo> getIdentityInfo() {
         return identityInfo;
     }
+
+    public Shape getShape() {
+        return shape;
+    }
 }
@@ -26,7 +26,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.github.nmorel.gwtjackson.client.deser.bean.HasDeserializerAndParameters;
 import com.github.nmorel.gwtjackson.client.deser.bean.IdentityDeserializationInfo;
 import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
@@ -72,6 +74,8 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
 
     private static final String INSTANCE_BUILDER_DESERIALIZER_FORMAT = "deserializer_%s";
 
+    private static final String PROPERTY_DESERIALIZER_FIELD_FORMAT = "propertyDeserializer%d";
+
     private static final String BEAN_PROPERTY_DESERIALIZER_CLASS = "com.github.nmorel.gwtjackson.client.deser.bean" + "" +
             ".BeanPropertyDeserializer";
 
@@ -106,6 +110,11 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         if ( beanInfo.getCreatorMethod().isPresent() ) {
             generateInitInstanceBuilderMethod( source, beanInfo, properties );
             source.println();
+
+            if ( beanInfo.isCreatorDefaultConstructor() ) {
+                generateIsUpdatableMethod( source );
+                source.println();
+            }
         }
 
         if ( !properties.isEmpty() ) {
@@ -142,6 +151,11 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             source.println();
         }
 
+        if ( Shape.ARRAY == beanInfo.getShape() ) {
+            generateIsDefaultArrayShapeMethod( source );
+            source.println();
+        }
+
         generateClassGetterMethod( source, beanInfo );
     }
 
@@ -201,9 +215,10 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         }
 
         source.println( "@Override" );
-        source.println( "public %s<%s> newInstance( %s reader, %s ctx, %s<String, String> bufferedProperties ) {", INSTANCE_CLASS, beanInfo
+        source.println( "public %s<%s> newInstance( %s reader, %s ctx, %s<String, %s> bufferedProperties ) {", INSTANCE_CLASS, beanInfo
                 .getType().getParameterizedQualifiedSourceName(), JsonReader.class
-                .getCanonicalName(), JSON_DESERIALIZATION_CONTEXT_CLASS, Map.class.getCanonicalName() );
+                .getCanonicalName(), JSON_DESERIALIZATION_CONTEXT_CLASS, Map.class.getCanonicalName(), JsonReader.class
+                .getCanonicalName() );
         source.indent();
 
         if ( beanInfo.isCreatorDefaultConstructor() ) {
@@ -273,7 +288,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
 
         source.println( "if(null != bufferedProperties) {" );
         source.indent();
-        source.println( "String value;" );
+        source.println( "%s value;", JsonReader.class.getCanonicalName() );
         for ( String name : info.getCreatorParameters().keySet() ) {
             PropertyInfo propertyInfo = properties.get( name );
 
@@ -281,7 +296,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             source.println( "value = bufferedProperties.remove(\"%s\");", name );
             source.println( "if(null != value) {" );
             source.indent();
-            source.println( "%s = %s.deserialize(ctx.newJsonReader(value), ctx);", FORMAT_VARIABLE.apply( name ), String
+            source.println( "%s = %s.deserialize(value, ctx);", FORMAT_VARIABLE.apply( name ), String
                     .format( INSTANCE_BUILDER_DESERIALIZER_FORMAT, name ) );
             source.println( "nbParamToFind--;" );
             if ( propertyInfo.isRequired() ) {
@@ -321,10 +336,10 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         source.println();
         source.println( "if(null == bufferedProperties) {" );
         source.indent();
-        source.println( "bufferedProperties = new %s<String, String>();", HashMap.class.getName() );
+        source.println( "bufferedProperties = new %s<String, %s>();", HashMap.class.getName(), JsonReader.class.getCanonicalName() );
         source.outdent();
         source.println( "}" );
-        source.println( "bufferedProperties.put( name, reader.nextValue() );" );
+        source.println( "bufferedProperties.put( name, reader.nextValueReader() );" );
 
         source.outdent();
         source.println( "}" );
@@ -443,8 +458,17 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             }
         }
 
+        // each required property gets a bit in an int mask if there are not too many of them
+        Map<String, Integer> requiredBits = new HashMap<String, Integer>();
+        if ( requiredProperties.size() <= 32 ) {
+            for ( PropertyInfo property : requiredProperties ) {
+                requiredBits.put( property.getPropertyName(), requiredBits.size() );
+            }
+        }
+
         if ( !deserializerProperties.isEmpty() ) {
-            generateInitDeserializersMethod( source, beanInfo, deserializerProperties );
+            generatePropertyDeserializerFields( source, beanInfo, deserializerProperties, requiredBits );
+            generateFindPropertyDeserializerMethod( source, beanInfo, deserializerProperties );
             source.println();
         }
 
@@ -461,25 +485,35 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         if ( !requiredProperties.isEmpty() ) {
             generateInitRequiredPropertiesMethod( source, requiredProperties );
         }
-    }
-
-    private void generateInitDeserializersMethod( SourceWriter source, BeanInfo beanInfo, List<PropertyInfo> properties ) throws
-            UnableToCompleteException {
-        String resultType = String.format( "%s<%s<%s, ?>>", SimpleStringMap.class
-                .getCanonicalName(), BEAN_PROPERTY_DESERIALIZER_CLASS, beanInfo.getType().getParameterizedQualifiedSourceName() );
 
-        source.println( "@Override" );
-        source.println( "protected %s initDeserializers() {", resultType );
-        source.indent();
+        if ( !requiredBits.isEmpty() ) {
+            source.println();
+            generateInitRequiredPropertiesMaskMethod( source, requiredBits );
+        }
 
-        source.println( "%s map = %s.createObject().cast();", resultType, SimpleStringMap.class.getCanonicalName() );
-        source.println();
+        // the positions of the values when the bean is written as an array are the ones of the serialized properties
+        List<String> arrayPropertyNames = new ArrayList<String>();
+        for ( PropertyInfo property : properties.values() ) {
+            if ( !property.isIgnored() && property.getGetterAccessor().isPresent() ) {
+                arrayPropertyNames.add( property.getPropertyName() );
+            }
+        }
+        if ( !arrayPropertyNames.isEmpty() ) {
+            source.println();
+            generateInitArrayPropertyNamesMethod( source, arrayPropertyNames );
+        }
+    }
 
-        for ( PropertyInfo property : properties ) {
+    private void generatePropertyDeserializerFields( SourceWriter source, BeanInfo beanInfo, List<PropertyInfo> properties, Map<String,
+            Integer> requiredBits ) throws UnableToCompleteException {
+        for ( int i = 0; i < properties.size(); i++ ) {
+            PropertyInfo property = properties.get( i );
             Accessor accessor = property.getSetterAccessor().get().getAccessor( "bean", true );
 
-            source.println( "map.put(\"%s\", new %s<%s, %s>() {", property.getPropertyName(), BEAN_PROPERTY_DESERIALIZER_CLASS, beanInfo
-                    .getType().getParameterizedQualifiedSourceName(), getQualifiedClassName( property.getType() ) );
+            source.println( "private final %s<%s, ?> %s = new %s<%s, %s>() {", BEAN_PROPERTY_DESERIALIZER_CLASS, beanInfo.getType()
+                    .getParameterizedQualifiedSourceName(), String.format( PROPERTY_DESERIALIZER_FIELD_FORMAT, i ),
+                    BEAN_PROPERTY_DESERIALIZER_CLASS, beanInfo.getType().getParameterizedQualifiedSourceName(), getQualifiedClassName(
+                    property.getType() ) );
 
             source.indent();
 
@@ -501,19 +535,150 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             source.outdent();
             source.println( "}" );
 
+            Accessor getterAccessor = null;
+            if ( property.getGetterAccessor().isPresent() ) {
+                // the current value is used when updating an existing bean
+                getterAccessor = property.getGetterAccessor().get().getAccessor( "bean", true );
+
+                source.println();
+                source.println( "@Override" );
+                source.println( "public %s getValue(%s bean, %s ctx) {", getQualifiedClassName( property.getType() ), beanInfo.getType()
+                        .getParameterizedQualifiedSourceName(), JSON_DESERIALIZATION_CONTEXT_CLASS );
+                source.indent();
+                source.println( "return %s;", getterAccessor.getAccessor() );
+                source.outdent();
+                source.println( "}" );
+            }
+
+            Integer requiredBit = requiredBits.get( property.getPropertyName() );
+            if ( null != requiredBit ) {
+                source.println();
+                source.println( "@Override" );
+                source.println( "public int getRequiredBit() {" );
+                source.indent();
+                source.println( "return 1 << %d;", requiredBit );
+                source.outdent();
+                source.println( "}" );
+            }
+
             if ( accessor.getAdditionalMethod().isPresent() ) {
                 source.println();
                 accessor.getAdditionalMethod().get().write( source );
             }
 
+            if ( null != getterAccessor && getterAccessor.getAdditionalMethod().isPresent() ) {
+                source.println();
+                getterAccessor.getAdditionalMethod().get().write( source );
+            }
+
+            generateIsIncludedInViewMethod( source, property );
+
             source.outdent();
-            source.println( "});" );
+            source.println( "};" );
             source.println();
         }
+    }
 
-        source.println( "return map;" );
+    /**
+     * Generate the lookup of the property deserializers. The properties are dispatched on the length of their name then on the
+     * character that best discriminates the names of the same length, so a lookup compares at most a few names.
+     *
+     * @param source writer
+     * @param beanInfo info on bean
+     * @param properties list of properties
+     */
+    private void generateFindPropertyDeserializerMethod( SourceWriter source, BeanInfo beanInfo, List<PropertyInfo> properties ) {
+        Map<Integer, List<Integer>> propertiesByLength = new TreeMap<Integer, List<Integer>>();
+        for ( int i = 0; i < properties.size(); i++ ) {
+            int length = properties.get( i ).getPropertyName().length();
+            List<Integer> group = propertiesByLength.get( length );
+            if ( null == group ) {
+                group = new ArrayList<Integer>();
+                propertiesByLength.put( length, group );
+            }
+            group.add( i );
+        }
+
+        source.println( "@Override" );
+        source.println( "protected %s<%s, ?> findPropertyDeserializer(String propertyName) {", BEAN_PROPERTY_DESERIALIZER_CLASS, beanInfo
+                .getType().getParameterizedQualifiedSourceName() );
+        source.indent();
+
+        source.println( "switch (propertyName.length()) {" );
+        source.indent();
+        for ( Entry<Integer, List<Integer>> lengthGroup : propertiesByLength.entrySet() ) {
+            source.println( "case %d:", lengthGroup.getKey() );
+            source.indent();
+
+            List<Integer> group = lengthGroup.getValue();
+            if ( group.size() == 1 ) {
+                generatePropertyNameComparisons( source, properties, group );
+            } else {
+                int index = findDiscriminatingCharIndex( properties, group );
+                Map<Character, List<Integer>> propertiesByChar = new TreeMap<Character, List<Integer>>();
+                for ( Integer i : group ) {
+                    char c = properties.get( i ).getPropertyName().charAt( index );
+                    List<Integer> charGroup = propertiesByChar.get( c );
+                    if ( null == charGroup ) {
+                        charGroup = new ArrayList<Integer>();
+                        propertiesByChar.put( c, charGroup );
+                    }
+                    charGroup.add( i );
+                }
+
+                source.println( "switch (propertyName.charAt(%d)) {", index );
+                source.indent();
+                for ( Entry<Character, List<Integer>> charGroup : propertiesByChar.entrySet() ) {
+                    source.println( "case %d:", (int) charGroup.getKey() );
+                    source.indent();
+                    generatePropertyNameComparisons( source, properties, charGroup.getValue() );
+                    source.outdent();
+                }
+                source.outdent();
+                source.println( "}" );
+                source.println( "return null;" );
+            }
+
+            source.outdent();
+        }
         source.outdent();
         source.println( "}" );
+
+        source.println( "return null;" );
+        source.outdent();
+        source.println( "}" );
+    }
+
+    /**
+     * Returns the index of the character taking the most distinct values in the names of the given properties. All the names have
+     * the same length.
+     */
+    private int findDiscriminatingCharIndex( List<PropertyInfo> properties, List<Integer> group ) {
+        int length = properties.get( group.get( 0 ) ).getPropertyName().length();
+        int bestIndex = 0;
+        int bestCount = 0;
+        for ( int index = 0; index < length && bestCount < group.size(); index++ ) {
+            Set<Character> chars = new HashSet<Character>();
+            for ( Integer i : group ) {
+                chars.add( properties.get( i ).getPropertyName().charAt( index ) );
+            }
+            if ( chars.size() > bestCount ) {
+                bestIndex = index;
+                bestCount = chars.size();
+            }
+        }
+        return bestIndex;
+    }
+
+    private void generatePropertyNameComparisons( SourceWriter source, List<PropertyInfo> properties, List<Integer> group ) {
+        for ( Integer i : group ) {
+            source.println( "if (\"%s\".equals(propertyName)) {", properties.get( i ).getPropertyName() );
+            source.indent();
+            source.println( "return %s;", String.format( PROPERTY_DESERIALIZER_FIELD_FORMAT, i ) );
+            source.outdent();
+            source.println( "}" );
+        }
+        source.println( "return null;" );
     }
 
     private void generateCommonPropertyDeserializerBody( SourceWriter source, BeanInfo info,
@@ -648,6 +813,19 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         source.println( "}" );
     }
 
+    private void generateInitRequiredPropertiesMaskMethod( SourceWriter source, Map<String, Integer> requiredBits ) {
+        int mask = 0;
+        for ( Integer bit : requiredBits.values() ) {
+            mask |= 1 << bit;
+        }
+        source.println( "@Override" );
+        source.println( "protected int initRequiredPropertiesMask() {" );
+        source.indent();
+        source.println( "return %d;", mask );
+        source.outdent();
+        source.println( "}" );
+    }
+
     private void generateInitIdentityInfoMethod( SourceWriter source, BeanInfo beanInfo ) throws UnableToCompleteException {
         source.println( "@Override" );
         source.println( "protected %s<%s> initIdentityInfo() {", IdentityDeserializationInfo.class.getCanonicalName(), beanInfo.getType()
@@ -709,6 +887,31 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         source.println( "}" );
     }
 
+    private void generateInitArrayPropertyNamesMethod( SourceWriter source, List<String> arrayPropertyNames ) {
+        source.println( "@Override" );
+        source.println( "protected String[] initArrayPropertyNames() {" );
+        source.indent();
+        source.print( "return new String[]{" );
+        for ( int i = 0; i < arrayPropertyNames.size(); i++ ) {
+            if ( i > 0 ) {
+                source.print( ", " );
+            }
+            source.print( "\"%s\"", arrayPropertyNames.get( i ) );
+        }
+        source.println( "};" );
+        source.outdent();
+        source.println( "}" );
+    }
+
+    private void generateIsUpdatableMethod( SourceWriter source ) {
+        source.println( "@Override" );
+        source.println( "protected boolean isUpdatable() {" );
+        source.indent();
+        source.println( "return true;" );
+        source.outdent();
+        source.println( "}" );
+    }
+
     private void generateIsDefaultIgnoreUnknownMethod( SourceWriter source ) {
         source.println( "@Override" );
         source.println( "protected boolean isDefaultIgnoreUnknown() {" );
@@ -24,12 +24,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.github.nmorel.gwtjackson.client.ser.RawValueJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.IdentitySerializationInfo;
 import com.github.nmorel.gwtjackson.client.ser.bean.SubtypeSerializer;
 import com.github.nmorel.gwtjackson.rebind.FieldAccessor.Accessor;
 import com.github.nmorel.gwtjackson.rebind.type.JSerializerType;
+import com.google.gwt.core.ext.Generator;
 import com.google.gwt.core.ext.GeneratorContext;
 import com.google.gwt.core.ext.TreeLogger;
 import com.google.gwt.core.ext.UnableToCompleteException;
@@ -47,6 +49,10 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
 
     private static final String JSON_SERIALIZER_PARAMETERS_CLASS = "com.github.nmorel.gwtjackson.client.JsonSerializerParameters";
 
+    private static final String JSON_WRITER_CLASS = "com.github.nmorel.gwtjackson.client.stream.JsonWriter";
+
+    private static final String PROPERTY_SERIALIZER_FIELD_FORMAT = "propertySerializer%d";
+
     public BeanJsonSerializerCreator( TreeLogger logger, GeneratorContext context, RebindConfiguration configuration,
                                       JacksonTypeOracle typeOracle ) {
         super( logger, context, configuration, typeOracle );
@@ -81,7 +87,11 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
                 }
             } );
             if ( !propertyInfoList.isEmpty() ) {
-                generateInitSerializersMethod( source, beanInfo, propertyInfoList );
+                List<PropertyInfo> serializerProperties = new ArrayList<PropertyInfo>( propertyInfoList );
+                generatePropertySerializerFields( source, beanInfo, serializerProperties );
+                generateInitSerializersMethod( source, beanInfo, serializerProperties );
+                source.println();
+                generateSerializePropertiesMethod( source, beanInfo, serializerProperties );
                 source.println();
             }
         }
@@ -110,6 +120,11 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
             }
         }
 
+        if ( Shape.ARRAY == beanInfo.getShape() ) {
+            generateIsDefaultArrayShapeMethod( source );
+            source.println();
+        }
+
         generateClassGetterMethod( source, beanInfo );
     }
 
@@ -133,23 +148,15 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
         source.println( "}" );
     }
 
-    private void generateInitSerializersMethod( SourceWriter source, BeanInfo beanInfo, Collection<PropertyInfo> properties ) throws
+    private void generatePropertySerializerFields( SourceWriter source, BeanInfo beanInfo, List<PropertyInfo> properties ) throws
             UnableToCompleteException {
-        String mapType = String.format( "<%s, %s<%s, ?>>", String.class.getCanonicalName(), BEAN_PROPERTY_SERIALIZER_CLASS, beanInfo
-                .getType().getParameterizedQualifiedSourceName() );
-        String resultType = String.format( "%s%s", Map.class.getCanonicalName(), mapType );
-
-        source.println( "@Override" );
-        source.println( "protected %s initSerializers() {", resultType );
-        source.indent();
-
-        source.println( "%s map = new %s%s(%s);", resultType, LinkedHashMap.class.getCanonicalName(), mapType, properties.size() );
-        source.println();
-        for ( PropertyInfo property : properties ) {
+        for ( int i = 0; i < properties.size(); i++ ) {
+            PropertyInfo property = properties.get( i );
             Accessor getterAccessor = property.getGetterAccessor().get().getAccessor( "bean", true );
 
-            source.println( "map.put(\"%s\", new %s<%s, %s>() {", property
-                    .getPropertyName(), BEAN_PROPERTY_SERIALIZER_CLASS, getQualifiedClassName( beanInfo
+            source.println( "private final %s<%s, %s> %s = new %s<%s, %s>() {", BEAN_PROPERTY_SERIALIZER_CLASS, getQualifiedClassName(
+                    beanInfo.getType() ), getQualifiedClassName( property.getType() ), String
+                    .format( PROPERTY_SERIALIZER_FIELD_FORMAT, i ), BEAN_PROPERTY_SERIALIZER_CLASS, getQualifiedClassName( beanInfo
                     .getType() ), getQualifiedClassName( property.getType() ) );
 
             JSerializerType serializerType;
@@ -186,16 +193,100 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
                 getterAccessor.getAdditionalMethod().get().write( source );
             }
 
+            generateIsIncludedInViewMethod( source, property );
+
             source.outdent();
-            source.println( "});" );
+            source.println( "};" );
             source.println();
         }
+    }
 
+    private void generateInitSerializersMethod( SourceWriter source, BeanInfo beanInfo, List<PropertyInfo> properties ) throws
+            UnableToCompleteException {
+        String mapType = String.format( "<%s, %s<%s, ?>>", String.class.getCanonicalName(), BEAN_PROPERTY_SERIALIZER_CLASS, beanInfo
+                .getType().getParameterizedQualifiedSourceName() );
+        String resultType = String.format( "%s%s", Map.class.getCanonicalName(), mapType );
+
+        source.println( "@Override" );
+        source.println( "protected %s initSerializers() {", resultType );
+        source.indent();
+
+        source.println( "%s map = new %s%s(%s);", resultType, LinkedHashMap.class.getCanonicalName(), mapType, properties.size() );
+        for ( int i = 0; i < properties.size(); i++ ) {
+            source.println( "map.put(\"%s\", %s);", Generator.escape( properties.get( i ).getPropertyName() ), String
+                    .format( PROPERTY_SERIALIZER_FIELD_FORMAT, i ) );
+        }
         source.println( "return map;" );
+
+        source.outdent();
+        source.println( "}" );
+    }
+
+    /**
+     * Generate the serialization of all the properties in one method. The getter is called directly when it is accessible from the
+     * serializer, otherwise we go through the property serializer.
+     *
+     * @param source writer
+     * @param beanInfo info on bean
+     * @param properties list of properties
+     */
+    private void generateSerializePropertiesMethod( SourceWriter source, BeanInfo beanInfo, List<PropertyInfo> properties ) throws
+            UnableToCompleteException {
+        source.println( "@Override" );
+        source.println( "protected void serializeProperties(%s writer, %s bean, %s ctx) {", JSON_WRITER_CLASS, getQualifiedClassName(
+                beanInfo.getType() ), JSON_SERIALIZATION_CONTEXT_CLASS );
+        source.indent();
+
+        for ( PropertyInfo property : properties ) {
+            if ( property.getViews().isPresent() ) {
+                source.println( "%s<?> view = ctx.getActiveView();", Class.class.getCanonicalName() );
+                break;
+            }
+        }
+
+        for ( int i = 0; i < properties.size(); i++ ) {
+            PropertyInfo property = properties.get( i );
+            Accessor getterAccessor = property.getGetterAccessor().get().getAccessor( "bean", true );
+            String field = String.format( PROPERTY_SERIALIZER_FIELD_FORMAT, i );
+
+            if ( property.getViews().isPresent() ) {
+                source.println( "if (null == view || %s) {", getViewCondition( "view", property.getViews().get() ) );
+                source.indent();
+            }
+            if ( isNameWithoutEscape( property.getPropertyName() ) ) {
+                source.println( "writer.name(\"%s\", \"\\\"%s\\\"\");", property.getPropertyName(), property.getPropertyName() );
+            } else {
+                source.println( "writer.name(\"%s\");", Generator.escape( property.getPropertyName() ) );
+            }
+            if ( getterAccessor.getAdditionalMethod().isPresent() ) {
+                source.println( "%s.serialize(writer, bean, ctx);", field );
+            } else {
+                source.println( "%s.serializeValue(writer, %s, ctx);", field, getterAccessor.getAccessor() );
+            }
+            if ( property.getViews().isPresent() ) {
+                source.outdent();
+                source.println( "}" );
+            }
+        }
+
         source.outdent();
         source.println( "}" );
     }
 
+    /**
+     * Returns true if the name is written as is by all the writers, whatever their escaping rules are. We can then give them the
+     * quoted name computed here.
+     */
+    private boolean isNameWithoutEscape( String name ) {
+        for ( int i = 0; i < name.length(); i++ ) {
+            char c = name.charAt( i );
+            if ( c < ' ' || c > '~' || "\"\\<>&='".indexOf( c ) >= 0 ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void generatePropertySerializerParameters( SourceWriter source, PropertyInfo property,
                                                        JSerializerType serializerType ) throws UnableToCompleteException {
         if ( property.getFormat().isPresent() || property.getIgnoredProperties().isPresent() || property.getIgnoreUnknown().isPresent() ||
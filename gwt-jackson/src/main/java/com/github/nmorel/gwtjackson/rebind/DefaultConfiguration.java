@@ -68,22 +68,22 @@ import com.github.nmorel.gwtjackson.client.deser.CharacterJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.UUIDJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.VoidJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveBooleanArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveByteArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveCharacterArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveDoubleArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveFloatArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveIntegerArrayJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveLongArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveShortArrayJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveBooleanArray2dJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveByteArray2dJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveCharacterArray2dJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveDoubleArray2dJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveFloatArray2dJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveIntegerArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveBooleanArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveBooleanArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveByteArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveByteArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveCharacterArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveCharacterArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveDoubleArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveDoubleArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveFloatArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveFloatArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveIntegerArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveIntegerArrayJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveShortArray2dJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveShortArrayJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveLongArray2dJsonDeserializer;
-import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveShortArray2dJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.collection.AbstractCollectionJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.collection.AbstractListJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.collection.AbstractQueueJsonDeserializer;
@@ -16,6 +16,12 @@
 
 package com.github.nmorel.gwtjackson.rebind;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -27,10 +33,12 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonView;
 import com.github.nmorel.gwtjackson.rebind.property.PropertyAccessors;
 import com.google.gwt.core.ext.TreeLogger;
 import com.google.gwt.core.ext.TreeLogger.Type;
 import com.google.gwt.core.ext.UnableToCompleteException;
+import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.core.ext.typeinfo.JField;
 import com.google.gwt.core.ext.typeinfo.JMethod;
 import com.google.gwt.core.ext.typeinfo.JType;
@@ -73,10 +81,12 @@ public final class PropertyInfo {
         JsonBackReference jsonBackReference = findAnnotationOnAnyAccessor( propertyAccessors, JsonBackReference.class, true );
         result.backReference = Optional.fromNullable( null == jsonBackReference ? null : jsonBackReference.value() );
 
+        JsonView jsonView = findAnnotationOnAnyAccessor( propertyAccessors, JsonView.class, true );
+
         // if an accessor has jackson annotation, the property is considered auto detected.
         // TODO can we do a search on @JacksonAnnotation instead of enumerating all of them ?
         boolean hasAnyAnnotation = null != findAnnotationOnAnyAccessor( propertyAccessors, JsonProperty.class,
-                true ) || null != jsonManagedReference || null != jsonBackReference;
+                true ) || null != jsonManagedReference || null != jsonBackReference || null != jsonView;
 
         boolean getterAutoDetected = propertyAccessors.getGetter()
                 .isPresent() && (hasAnyAnnotation || isGetterAutoDetected( propertyAccessors.getGetter().get(), mapperInfo.getBeanInfo() ));
@@ -104,6 +114,10 @@ public final class PropertyInfo {
 
         result.format = Optional.fromNullable( findAnnotationOnAnyAccessor( propertyAccessors, JsonFormat.class ) );
 
+        if ( null != jsonView ) {
+            result.views = Optional.of( findViews( typeOracle, jsonView ) );
+        }
+
         JsonInclude jsonInclude = findAnnotationOnAnyAccessor( propertyAccessors, JsonInclude.class );
         if ( null != jsonInclude ) {
             result.include = Optional.of( jsonInclude.value() );
@@ -135,6 +149,20 @@ public final class PropertyInfo {
         }
     }
 
+    /**
+     * Returns the views the property is included in : the views declared in the annotation and all their subtypes, since Jackson
+     * includes the property when the active view is assignable to one of the declared views.
+     */
+    private static List<JClassType> findViews( JacksonTypeOracle typeOracle, JsonView jsonView ) throws UnableToCompleteException {
+        Set<JClassType> views = new LinkedHashSet<JClassType>();
+        for ( Class<?> view : jsonView.value() ) {
+            JClassType viewType = typeOracle.getType( view.getCanonicalName() );
+            views.add( viewType );
+            views.addAll( Arrays.asList( viewType.getSubtypes() ) );
+        }
+        return new ArrayList<JClassType>( views );
+    }
+
     private static boolean isPropertyIgnored( PropertyAccessors fieldAccessors, BeanJsonMapperInfo mapperInfo, JType type,
                                               String propertyName ) {
         // we first check if the property is ignored
@@ -240,6 +268,8 @@ public final class PropertyInfo {
 
     private Optional<Include> include = Optional.absent();
 
+    private Optional<List<JClassType>> views = Optional.absent();
+
     private Optional<Boolean> ignoreUnknown = Optional.absent();
 
     private Optional<String[]> ignoredProperties = Optional.absent();
@@ -303,6 +333,10 @@ public final class PropertyInfo {
         return include;
     }
 
+    public Optional<List<JClassType>> getViews() {
+        return views;
+    }
+
     public Optional<Boolean> getIgnoreUnknown() {
         return ignoreUnknown;
     }
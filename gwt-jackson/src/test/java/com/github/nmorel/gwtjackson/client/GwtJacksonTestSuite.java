@@ -23,6 +23,7 @@ import com.github.nmorel.gwtjackson.client.advanced.PrivateAccessGwtTest;
 import com.github.nmorel.gwtjackson.client.advanced.WildcardGwtTest;
 import com.github.nmorel.gwtjackson.client.advanced.identity.ObjectIdDeserializationGwtTest;
 import com.github.nmorel.gwtjackson.client.advanced.identity.ObjectIdGwtTest;
+import com.github.nmorel.gwtjackson.client.advanced.identity.ObjectIdNativeMapGwtTest;
 import com.github.nmorel.gwtjackson.client.advanced.identity.ObjectIdSerializationGwtTest;
 import com.github.nmorel.gwtjackson.client.advanced.identity.ObjectIdWithEqualsGwtTest;
 import com.github.nmorel.gwtjackson.client.advanced.identity.ObjectIdWithPolymorphicGwtTest;
@@ -44,6 +45,7 @@ import com.github.nmorel.gwtjackson.client.annotations.JsonManagedAndBackReferen
 import com.github.nmorel.gwtjackson.client.annotations.JsonPropertyOrderGwtTest;
 import com.github.nmorel.gwtjackson.client.annotations.JsonRawValueGwtTest;
 import com.github.nmorel.gwtjackson.client.annotations.JsonRootNameGwtTest;
+import com.github.nmorel.gwtjackson.client.annotations.JsonViewGwtTest;
 import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.CharacterJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.EnumJsonDeserializerTest;
@@ -51,6 +53,10 @@ import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.UUIDJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.VoidJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ArrayJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.PrimitiveLongArrayJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveByteArray2dJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveFloatArrayJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.cast.PrimitiveIntegerArray2dJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.CollectionJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.IterableJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.ListJsonDeserializerTest;
@@ -86,8 +92,13 @@ import com.github.nmorel.gwtjackson.client.deser.number.LongJsonDeserializerTest
 import com.github.nmorel.gwtjackson.client.deser.number.ShortJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.mapper.AllCollectionsObjectMapperTest;
 import com.github.nmorel.gwtjackson.client.mapper.AllMapsObjectMapperTest;
+import com.github.nmorel.gwtjackson.client.mapper.AsyncArrayReaderTest;
+import com.github.nmorel.gwtjackson.client.mapper.BeanPropertiesSerializationGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.CommonJsonMapperTest;
 import com.github.nmorel.gwtjackson.client.mapper.IgnoreStaticGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.ProjectionGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.PropertyNameDispatchGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.ReadIntoGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.SimpleBeanObjectReaderTest;
 import com.github.nmorel.gwtjackson.client.mapper.SimpleBeanObjectWriterTest;
 import com.github.nmorel.gwtjackson.client.options.CharArrayOptionGwtTest;
@@ -139,7 +150,13 @@ import com.github.nmorel.gwtjackson.client.ser.number.ShortJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.DefaultJsonReaderTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.DefaultJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriterTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.IncrementalJsonArrayReaderTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReaderTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReaderTest;
+import com.github.nmorel.gwtjackson.client.utils.Base64Test;
+import com.github.nmorel.gwtjackson.client.utils.Iso8601DateFormatTest;
+import com.github.nmorel.gwtjackson.client.utils.NativeIdentityMapTest;
 import com.google.gwt.junit.tools.GWTTestSuite;
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -155,8 +172,16 @@ public class GwtJacksonTestSuite extends TestCase {
         // Stream - tests from gson
         suite.addTestSuite( DefaultJsonReaderTest.class );
         suite.addTestSuite( NonBufferedJsonReaderTest.class );
+        suite.addTestSuite( NativeJsonReaderTest.class );
+        suite.addTestSuite( IncrementalJsonArrayReaderTest.class );
         suite.addTestSuite( DefaultJsonWriterTest.class );
         suite.addTestSuite( FastJsonWriterTest.class );
+        suite.addTestSuite( NativeJsonWriterTest.class );
+
+        // Utils
+        suite.addTestSuite( Base64Test.class );
+        suite.addTestSuite( Iso8601DateFormatTest.class );
+        suite.addTestSuite( NativeIdentityMapTest.class );
 
         // Default json serializers
         suite.addTestSuite( ArrayJsonSerializerTest.class );
@@ -204,6 +229,10 @@ public class GwtJacksonTestSuite extends TestCase {
 
         // Default deserializers
         suite.addTestSuite( ArrayJsonDeserializerTest.class );
+        suite.addTestSuite( PrimitiveLongArrayJsonDeserializerTest.class );
+        suite.addTestSuite( PrimitiveFloatArrayJsonDeserializerTest.class );
+        suite.addTestSuite( PrimitiveIntegerArray2dJsonDeserializerTest.class );
+        suite.addTestSuite( PrimitiveByteArray2dJsonDeserializerTest.class );
         suite.addTestSuite( BigDecimalJsonDeserializerTest.class );
         suite.addTestSuite( BigIntegerJsonDeserializerTest.class );
         suite.addTestSuite( BooleanJsonDeserializerTest.class );
@@ -252,7 +281,12 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( AllCollectionsObjectMapperTest.class );
         suite.addTestSuite( AllMapsObjectMapperTest.class );
         suite.addTestSuite( CommonJsonMapperTest.class );
+        suite.addTestSuite( AsyncArrayReaderTest.class );
         suite.addTestSuite( IgnoreStaticGwtTest.class );
+        suite.addTestSuite( PropertyNameDispatchGwtTest.class );
+        suite.addTestSuite( ReadIntoGwtTest.class );
+        suite.addTestSuite( ProjectionGwtTest.class );
+        suite.addTestSuite( BeanPropertiesSerializationGwtTest.class );
 
         // Annotations test
         suite.addTestSuite( JsonAutoDetectGwtTest.class );
@@ -263,6 +297,7 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( JsonManagedAndBackReferenceGwtTest.class );
         suite.addTestSuite( JsonRootNameGwtTest.class );
         suite.addTestSuite( JsonRawValueGwtTest.class );
+        suite.addTestSuite( JsonViewGwtTest.class );
         suite.addTestSuite( JsonFormatGwtTest.class );
 
         // Advanced use cases
@@ -287,6 +322,7 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( ObjectIdGwtTest.class );
         suite.addTestSuite( ObjectIdDeserializationGwtTest.class );
         suite.addTestSuite( ObjectIdSerializationGwtTest.class );
+        suite.addTestSuite( ObjectIdNativeMapGwtTest.class );
         suite.addTestSuite( ObjectIdWithPolymorphicGwtTest.class );
         suite.addTestSuite( ObjectIdWithEqualsGwtTest.class );
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nmorel.gwtjackson.client.advanced.identity;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectWriter;
+import com.github.nmorel.gwtjackson.client.utils.NativeIdentityMap;
+import com.github.nmorel.gwtjackson.shared.advanced.identity.ObjectIdSerializationTester.Identifiable;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Checks the objects tracked by identity in script mode, where they are kept in a {@link NativeIdentityMap}.
+ *
+ * @author Nicolas Morel
+ */
+public class ObjectIdNativeMapGwtTest extends GwtJacksonTestCase {
+
+    public interface IdentifiableWriter extends ObjectWriter<Identifiable> {
+
+        static IdentifiableWriter INSTANCE = GWT.create( IdentifiableWriter.class );
+    }
+
+    public interface IdentifiableListWriter extends ObjectWriter<List<Identifiable>> {
+
+        static IdentifiableListWriter INSTANCE = GWT.create( IdentifiableListWriter.class );
+    }
+
+    private static final Logger logger = Logger.getLogger( "ObjectIdNativeMapGwtTest" );
+
+    private static final int GRAPH_SIZE = 100000;
+
+    /**
+     * Only a part of the graph is written to keep the test short on the slowest engines
+     */
+    private static final int WRITTEN_GRAPH_SIZE = 1000;
+
+    public void testFrozenObject() {
+        if ( !GWT.isScript() ) {
+            // the objects cannot be frozen in dev mode
+            return;
+        }
+
+        Identifiable first = new Identifiable( 1 );
+        Identifiable frozen = new Identifiable( 2 );
+        first.next = frozen;
+        frozen.next = frozen;
+        if ( !freeze( frozen ) ) {
+            // Object.freeze is not supported
+            return;
+        }
+
+        // the frozen object cannot be kept in the native map, its second occurrence is still written as an id
+        assertEquals( "{\"id\":1,\"value\":1,\"next\":{\"id\":2,\"value\":2,\"next\":2}}", IdentifiableWriter.INSTANCE
+                .write( first ) );
+    }
+
+    public void testLargeGraph() {
+        if ( !GWT.isScript() ) {
+            // timings are not relevant in dev mode
+            return;
+        }
+
+        List<Identifiable> nodes = new ArrayList<Identifiable>( GRAPH_SIZE );
+        for ( int i = 0; i < GRAPH_SIZE; i++ ) {
+            Identifiable node = new Identifiable( i );
+            if ( i > 0 ) {
+                // already written, so the reference is written as an id
+                node.next = nodes.get( i / 2 );
+            }
+            nodes.add( node );
+        }
+
+        Duration duration = new Duration();
+        NativeIdentityMap<Identifiable> nativeMap = NativeIdentityMap.create();
+        for ( Identifiable node : nodes ) {
+            assertNull( nativeMap.get( node ) );
+            nativeMap.put( node, node );
+        }
+        int nativeMapTime = duration.elapsedMillis();
+
+        duration = new Duration();
+        Map<Identifiable, Identifiable> identityHashMap = new IdentityHashMap<Identifiable, Identifiable>();
+        for ( Identifiable node : nodes ) {
+            assertNull( identityHashMap.get( node ) );
+            identityHashMap.put( node, node );
+        }
+        int identityHashMapTime = duration.elapsedMillis();
+
+        // the nodes only reference nodes with a lower index so the first nodes form a complete graph. The other ones are released
+        // with the maps so they do not slow down the writing.
+        nativeMap = null;
+        identityHashMap = null;
+        nodes = new ArrayList<Identifiable>( nodes.subList( 0, WRITTEN_GRAPH_SIZE ) );
+
+        duration = new Duration();
+        String nativeOutput = IdentifiableListWriter.INSTANCE.write( nodes );
+        int nativeWriteTime = duration.elapsedMillis();
+
+        duration = new Duration();
+        String equalityOutput = IdentifiableListWriter.INSTANCE.write( nodes, new JsonSerializationContext.Builder()
+                .useEqualityForObjectId( true ).build() );
+        int equalityWriteTime = duration.elapsedMillis();
+
+        assertTrue( nativeOutput.startsWith( "[{\"id\":1,\"value\":0,\"next\":null},{\"id\":2,\"value\":1,\"next\":1}," ) );
+        assertEquals( equalityOutput, nativeOutput );
+
+        logger.log( Level.INFO, GRAPH_SIZE + " nodes put in a NativeIdentityMap in " + nativeMapTime + "ms, in an IdentityHashMap in " +
+                identityHashMapTime + "ms" );
+        logger.log( Level.INFO, WRITTEN_GRAPH_SIZE + " nodes written in " + nativeWriteTime + "ms, with useEqualityForObjectId in " +
+                equalityWriteTime + "ms" );
+    }
+
+    private static native boolean freeze( Object object ) /*-{
+        if (typeof Object.freeze != 'function') {
+            return false;
+        }
+        Object.freeze(object);
+        return true;
+    }-*/;
+}
@@ -42,4 +42,8 @@ public class PolymorphismIdClassAsPropertyGwtTest extends GwtJacksonTestCase {
     public void testDeserialize() {
         tester.testDeserialize( PolymorphismMapper.INSTANCE );
     }
+
+    public void testDeserializeTypeNotFirst() {
+        tester.testDeserializeTypeNotFirst( PolymorphismMapper.INSTANCE );
+    }
 }
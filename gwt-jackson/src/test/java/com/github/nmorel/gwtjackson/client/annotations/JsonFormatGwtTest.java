@@ -20,6 +20,10 @@ import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.ObjectMapper;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonFormatTester;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonFormatTester.ArrayShapeBean;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonFormatTester.ArrayShapeCreatorBean;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonFormatTester.ArrayShapeEmptyBean;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonFormatTester.ArrayShapePropertyBean;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonFormatTester.FormatDateBean;
 import com.google.gwt.core.client.GWT;
 
@@ -33,6 +37,26 @@ public class JsonFormatGwtTest extends GwtJacksonTestCase {
         static JsonFormatDateMapper INSTANCE = GWT.create( JsonFormatDateMapper.class );
     }
 
+    public interface ArrayShapeBeanMapper extends ObjectMapper<ArrayShapeBean> {
+
+        static ArrayShapeBeanMapper INSTANCE = GWT.create( ArrayShapeBeanMapper.class );
+    }
+
+    public interface ArrayShapeCreatorBeanMapper extends ObjectMapper<ArrayShapeCreatorBean> {
+
+        static ArrayShapeCreatorBeanMapper INSTANCE = GWT.create( ArrayShapeCreatorBeanMapper.class );
+    }
+
+    public interface ArrayShapePropertyBeanMapper extends ObjectMapper<ArrayShapePropertyBean> {
+
+        static ArrayShapePropertyBeanMapper INSTANCE = GWT.create( ArrayShapePropertyBeanMapper.class );
+    }
+
+    public interface ArrayShapeEmptyBeanMapper extends ObjectMapper<ArrayShapeEmptyBean> {
+
+        static ArrayShapeEmptyBeanMapper INSTANCE = GWT.create( ArrayShapeEmptyBeanMapper.class );
+    }
+
     private JsonFormatTester tester = JsonFormatTester.INSTANCE;
 
     public void testFormatDate() {
@@ -40,4 +64,21 @@ public class JsonFormatGwtTest extends GwtJacksonTestCase {
                 new JsonSerializationContext.Builder()
                 .writeDatesAsTimestamps( false ).build() ) );
     }
+
+    public void testFormatArrayShape() {
+        tester.testFormatArrayShape( createMapper( ArrayShapeBeanMapper.INSTANCE ) );
+    }
+
+    public void testFormatArrayShapeWithCreator() {
+        tester.testFormatArrayShapeWithCreator( createMapper( ArrayShapeCreatorBeanMapper.INSTANCE ) );
+    }
+
+    public void testFormatArrayShapeOnProperty() {
+        tester.testFormatArrayShapeOnProperty( createMapper( ArrayShapePropertyBeanMapper.INSTANCE ) );
+    }
+
+    public void testFormatArrayShapeWithEmptyArrays() {
+        tester.testFormatArrayShapeWithEmptyArrays( createMapper( ArrayShapeEmptyBeanMapper.INSTANCE, newDefaultDeserializationContext(),
+                new JsonSerializationContext.Builder().writeEmptyJsonArrays( false ).build() ) );
+    }
 }
@@ -18,6 +18,7 @@ package com.github.nmorel.gwtjackson.client.annotations;
 
 import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
 import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonPropertyOrderTester;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonPropertyOrderTester.BeanWithAlphabeticOrder;
@@ -87,4 +88,16 @@ public class JsonPropertyOrderGwtTest extends GwtJacksonTestCase {
     public void testDeserializeBeanWithMissingRequiredProperties() {
         tester.testDeserializeBeanWithMissingRequiredProperties( BeanWithPropertiesNotOrderedMapper.INSTANCE );
     }
+
+    public void testDeserializeBeanWithRequiredPropertiesMissingMessage() {
+        try {
+            BeanWithPropertiesNotOrderedMapper.INSTANCE.read( "{\"doubleProperty\":1.5,\"intProperty\":15}" );
+            fail( "Expected an exception because a required property is missing" );
+        } catch ( JsonDeserializationException e ) {
+            assertTrue( e.getMessage().contains( "aBooleanProperty" ) );
+            assertFalse( e.getMessage().contains( "doubleProperty" ) );
+        }
+
+        assertNotNull( BeanWithPropertiesNotOrderedMapper.INSTANCE.read( "{\"aBooleanProperty\":true,\"doubleProperty\":1.5}" ) );
+    }
 }
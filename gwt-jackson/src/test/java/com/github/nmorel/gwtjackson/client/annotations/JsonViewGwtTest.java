@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.annotations;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester.BeanWithViews;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester.Detail;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester.Summary;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonViewGwtTest extends GwtJacksonTestCase {
+
+    public interface BeanWithViewsMapper extends ObjectMapper<BeanWithViews> {
+
+        static BeanWithViewsMapper INSTANCE = GWT.create( BeanWithViewsMapper.class );
+    }
+
+    private JsonViewTester tester = JsonViewTester.INSTANCE;
+
+    public void testSerializeWithoutView() {
+        tester.testSerializeWithoutView( createWriter( BeanWithViewsMapper.INSTANCE ) );
+    }
+
+    public void testSerializeWithSummaryView() {
+        tester.testSerializeWithSummaryView( createWriter( BeanWithViewsMapper.INSTANCE, new JsonSerializationContext.Builder()
+                .activeView( Summary.class ).build() ) );
+    }
+
+    public void testSerializeWithDetailView() {
+        tester.testSerializeWithDetailView( createWriter( BeanWithViewsMapper.INSTANCE, new JsonSerializationContext.Builder()
+                .activeView( Detail.class ).build() ) );
+    }
+
+    public void testDeserializeWithoutView() {
+        tester.testDeserializeWithoutView( createReader( BeanWithViewsMapper.INSTANCE ) );
+    }
+
+    public void testDeserializeWithSummaryView() {
+        tester.testDeserializeWithSummaryView( createReader( BeanWithViewsMapper.INSTANCE, new JsonDeserializationContext.Builder()
+                .activeView( Summary.class ).build() ) );
+    }
+
+    public void testDeserializeWithDetailView() {
+        tester.testDeserializeWithDetailView( createReader( BeanWithViewsMapper.INSTANCE, new JsonDeserializationContext.Builder()
+                .activeView( Detail.class ).build() ) );
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.github.nmorel.gwtjackson.client.deser;
 
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.EnumJsonDeserializerTest.EnumTest;
 
@@ -30,7 +31,7 @@ public class EnumJsonDeserializerTest extends AbstractJsonDeserializerTest<EnumT
 
     @Override
     protected JsonDeserializer<EnumTest> createDeserializer() {
-        return EnumJsonDeserializer.newInstance( EnumTest.class );
+        return EnumJsonDeserializer.newInstance( EnumTest.class, EnumTest.values() );
     }
 
     @Override
@@ -40,4 +41,18 @@ public class EnumJsonDeserializerTest extends AbstractJsonDeserializerTest<EnumT
         assertDeserialization( EnumTest.THREE, "\"THREE\"" );
         assertDeserialization( EnumTest.FOUR, "\"FOUR\"" );
     }
+
+    public void testDeserializeWithoutLookupTable() {
+        JsonDeserializationContext ctx = newDefaultDeserializationContext();
+        assertEquals( EnumTest.THREE, EnumJsonDeserializer.newInstance( EnumTest.class ).deserialize( ctx
+                .newJsonReader( "\"THREE\"" ), ctx ) );
+    }
+
+    public void testDeserializeUnknownValue() {
+        try {
+            deserialize( "\"FIVE\"" );
+            fail();
+        } catch ( IllegalArgumentException expected ) {
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+
+/**
+ * @author Nicolas Morel
+ */
+public class PrimitiveLongArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<long[]> {
+
+    @Override
+    protected JsonDeserializer<long[]> createDeserializer() {
+        return PrimitiveLongArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        assertTrue( Arrays.equals( new long[]{1l, 0l, -9223372036854775808l, 1400000000000l, 9223372036854775807l}, deserialize( "[1, " +
+                "null, -9223372036854775808, \"1400000000000\", 9223372036854775807]" ) ) );
+        assertTrue( Arrays.equals( new long[0], deserialize( "[]" ) ) );
+
+        // more values than the initial capacity
+        long[] expected = new long[40];
+        StringBuilder input = new StringBuilder( "[" );
+        for ( int i = 0; i < expected.length; i++ ) {
+            expected[i] = 1400000000000l + i;
+            if ( i > 0 ) {
+                input.append( ',' );
+            }
+            input.append( expected[i] );
+        }
+        input.append( ']' );
+        assertTrue( Arrays.equals( expected, deserialize( input.toString() ) ) );
+    }
+}
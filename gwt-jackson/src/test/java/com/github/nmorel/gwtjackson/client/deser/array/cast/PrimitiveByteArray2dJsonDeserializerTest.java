@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+
+/**
+ * @author Nicolas Morel
+ */
+public class PrimitiveByteArray2dJsonDeserializerTest extends AbstractJsonDeserializerTest<byte[][]> {
+
+    @Override
+    protected JsonDeserializer<byte[][]> createDeserializer() {
+        return PrimitiveByteArray2dJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        byte[][] result = deserialize( "[[1, 2, 3], [], null, \"SGk=\", [-128, null]]" );
+        assertEquals( 5, result.length );
+        assertTrue( Arrays.equals( new byte[]{1, 2, 3}, result[0] ) );
+        assertTrue( Arrays.equals( new byte[0], result[1] ) );
+        assertNull( result[2] );
+        assertTrue( Arrays.equals( new byte[]{'H', 'i'}, result[3] ) );
+        assertTrue( Arrays.equals( new byte[]{-128, 0}, result[4] ) );
+        assertEquals( 0, deserialize( "[]" ).length );
+
+        // the arrays must behave as java arrays
+        Object value = result;
+        assertTrue( value instanceof byte[][] );
+        Object row = result[0];
+        assertTrue( row instanceof byte[] );
+        result[1] = new byte[]{4};
+        assertEquals( 4, result[1][0] );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+
+/**
+ * @author Nicolas Morel
+ */
+public class PrimitiveFloatArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<float[]> {
+
+    @Override
+    protected JsonDeserializer<float[]> createDeserializer() {
+        return PrimitiveFloatArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        float[] result = deserialize( "[1.5, null, -0.25, \"3\", 42]" );
+        assertTrue( Arrays.equals( new float[]{1.5f, 0f, -0.25f, 3f, 42f}, result ) );
+        assertTrue( Arrays.equals( new float[0], deserialize( "[]" ) ) );
+
+        // the array must behave as a java array
+        Object value = result;
+        assertTrue( value instanceof float[] );
+        assertEquals( float[].class, value.getClass() );
+        float[] copy = new float[result.length];
+        System.arraycopy( result, 0, copy, 0, result.length );
+        assertTrue( Arrays.equals( result, copy ) );
+    }
+}
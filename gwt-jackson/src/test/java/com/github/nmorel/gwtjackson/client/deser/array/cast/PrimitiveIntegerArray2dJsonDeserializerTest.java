@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array.cast;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+
+/**
+ * @author Nicolas Morel
+ */
+public class PrimitiveIntegerArray2dJsonDeserializerTest extends AbstractJsonDeserializerTest<int[][]> {
+
+    @Override
+    protected JsonDeserializer<int[][]> createDeserializer() {
+        return PrimitiveIntegerArray2dJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        // the rows keep their own length, they are not padded to the length of the first row
+        int[][] result = deserialize( "[[1, 2, 3], [4], [], [5, null]]" );
+        assertEquals( 4, result.length );
+        assertTrue( Arrays.equals( new int[]{1, 2, 3}, result[0] ) );
+        assertTrue( Arrays.equals( new int[]{4}, result[1] ) );
+        assertTrue( Arrays.equals( new int[0], result[2] ) );
+        assertTrue( Arrays.equals( new int[]{5, 0}, result[3] ) );
+        assertEquals( 0, deserialize( "[]" ).length );
+    }
+
+    public void testDeserializeSingleValueAsArray() {
+        JsonDeserializationContext ctx = new JsonDeserializationContext.Builder().acceptSingleValueAsArray( true ).build();
+        int[][] result = createDeserializer().deserialize( ctx.newJsonReader( "5" ), ctx );
+        assertEquals( 1, result.length );
+        assertTrue( Arrays.equals( new int[]{5}, result[0] ) );
+
+        result = createDeserializer().deserialize( ctx.newJsonReader( "[6, [7]]" ), ctx );
+        assertEquals( 2, result.length );
+        assertTrue( Arrays.equals( new int[]{6}, result[0] ) );
+        assertTrue( Arrays.equals( new int[]{7}, result[1] ) );
+    }
+
+    public void testDeserializeSingleValueNotAccepted() {
+        try {
+            deserialize( "5" );
+            fail();
+        } catch ( JsonDeserializationException expected ) {
+        }
+    }
+}
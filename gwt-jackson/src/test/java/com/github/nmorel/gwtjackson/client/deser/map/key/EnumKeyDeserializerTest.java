@@ -29,7 +29,7 @@ public class EnumKeyDeserializerTest extends AbstractKeyDeserializerTest<EnumTes
 
     @Override
     protected EnumKeyDeserializer<EnumTest> createDeserializer() {
-        return EnumKeyDeserializer.newInstance( EnumTest.class );
+        return EnumKeyDeserializer.newInstance( EnumTest.class, EnumTest.values() );
     }
 
     @Override
@@ -39,4 +39,17 @@ public class EnumKeyDeserializerTest extends AbstractKeyDeserializerTest<EnumTes
         assertDeserialization( EnumTest.THREE, "THREE" );
         assertDeserialization( EnumTest.FOUR, "FOUR" );
     }
+
+    public void testDeserializeWithoutLookupTable() {
+        assertEquals( EnumTest.THREE, EnumKeyDeserializer.newInstance( EnumTest.class )
+                .deserialize( "THREE", newDefaultDeserializationContext() ) );
+    }
+
+    public void testDeserializeUnknownValue() {
+        try {
+            deserialize( "FIVE" );
+            fail();
+        } catch ( IllegalArgumentException expected ) {
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.AsyncArrayReader;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.stream.impl.MalformedJsonException;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.user.client.Timer;
+
+/**
+ * @author Nicolas Morel
+ */
+public class AsyncArrayReaderTest extends GwtJacksonTestCase {
+
+    public static class Person {
+
+        public String name;
+
+        public int age;
+    }
+
+    public interface PersonListReader extends ObjectReader<List<Person>> {
+
+        static PersonListReader INSTANCE = GWT.create( PersonListReader.class );
+    }
+
+    private static final int SIZE = 500;
+
+    private static String personArray() {
+        StringBuilder builder = new StringBuilder( "[" );
+        for ( int i = 0; i < SIZE; i++ ) {
+            if ( i > 0 ) {
+                builder.append( ',' );
+            }
+            builder.append( "{\"name\":\"Person" ).append( i ).append( "\",\"age\":" ).append( i ).append( '}' );
+        }
+        return builder.append( ']' ).toString();
+    }
+
+    public void testReadAsync() {
+        final List<Person> persons = new ArrayList<Person>();
+        AsyncArrayReader<Person> reader = AsyncArrayReader.read( PersonListReader.INSTANCE, personArray(), new AsyncArrayReader
+                .Callback<Person>() {
+            @Override
+            public void onElement( Person element ) {
+                persons.add( element );
+            }
+
+            @Override
+            public void onComplete() {
+                assertEquals( SIZE, persons.size() );
+                for ( int i = 0; i < SIZE; i++ ) {
+                    assertEquals( "Person" + i, persons.get( i ).name );
+                    assertEquals( i, persons.get( i ).age );
+                }
+                finishTest();
+            }
+
+            @Override
+            public void onFailure( RuntimeException exception ) {
+                fail( exception.getMessage() );
+            }
+        }, new JsonDeserializationContext.Builder().build(), 1 );
+
+        // nothing is read before the scheduled command runs
+        assertTrue( persons.isEmpty() );
+        assertFalse( reader.isFinished() );
+        delayTestFinish( 10000 );
+    }
+
+    public void testCancel() {
+        final List<Person> persons = new ArrayList<Person>();
+        final AsyncArrayReader<Person> reader = AsyncArrayReader.read( PersonListReader.INSTANCE, personArray(), new AsyncArrayReader
+                .Callback<Person>() {
+            @Override
+            public void onElement( Person element ) {
+                persons.add( element );
+            }
+
+            @Override
+            public void onComplete() {
+                fail( "The reading has been cancelled" );
+            }
+
+            @Override
+            public void onFailure( RuntimeException exception ) {
+                fail( exception.getMessage() );
+            }
+        } );
+        reader.cancel();
+        assertTrue( reader.isCancelled() );
+
+        new Timer() {
+            @Override
+            public void run() {
+                assertTrue( persons.isEmpty() );
+                assertFalse( reader.isFinished() );
+                finishTest();
+            }
+        }.schedule( 200 );
+        delayTestFinish( 10000 );
+    }
+
+    public void testFailure() {
+        final List<Person> persons = new ArrayList<Person>();
+        AsyncArrayReader.read( PersonListReader.INSTANCE, "[{\"name\":\"John\",\"age\":42},{\"name\":", new AsyncArrayReader
+                .Callback<Person>() {
+            @Override
+            public void onElement( Person element ) {
+                persons.add( element );
+            }
+
+            @Override
+            public void onComplete() {
+                fail( "The input is malformed" );
+            }
+
+            @Override
+            public void onFailure( RuntimeException exception ) {
+                assertTrue( exception instanceof MalformedJsonException );
+                assertEquals( 1, persons.size() );
+                assertEquals( "John", persons.get( 0 ).name );
+                finishTest();
+            }
+        } );
+        delayTestFinish( 10000 );
+    }
+}
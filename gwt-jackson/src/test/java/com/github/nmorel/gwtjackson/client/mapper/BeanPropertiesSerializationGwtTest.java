@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectWriter;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester.BeanWithAnyGetter;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester.BeanWithIgnoredPropertiesOnProperty;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester.BeanWithProperties;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class BeanPropertiesSerializationGwtTest extends GwtJacksonTestCase {
+
+    public interface BeanWithPropertiesWriter extends ObjectWriter<BeanWithProperties> {
+
+        static BeanWithPropertiesWriter INSTANCE = GWT.create( BeanWithPropertiesWriter.class );
+    }
+
+    public interface BeanWithIgnoredPropertiesOnPropertyWriter extends ObjectWriter<BeanWithIgnoredPropertiesOnProperty> {
+
+        static BeanWithIgnoredPropertiesOnPropertyWriter INSTANCE = GWT.create( BeanWithIgnoredPropertiesOnPropertyWriter.class );
+    }
+
+    public interface BeanWithAnyGetterWriter extends ObjectWriter<BeanWithAnyGetter> {
+
+        static BeanWithAnyGetterWriter INSTANCE = GWT.create( BeanWithAnyGetterWriter.class );
+    }
+
+    private BeanPropertiesSerializationTester tester = BeanPropertiesSerializationTester.INSTANCE;
+
+    public void testSerializeProperties() {
+        tester.testSerializeProperties( createWriter( BeanWithPropertiesWriter.INSTANCE ) );
+    }
+
+    public void testSerializeNullProperties() {
+        tester.testSerializeNullProperties( createWriter( BeanWithPropertiesWriter.INSTANCE ) );
+    }
+
+    public void testSerializeWithoutNullProperties() {
+        tester.testSerializeWithoutNullProperties( createWriter( BeanWithPropertiesWriter.INSTANCE, new JsonSerializationContext.Builder()
+                .serializeNulls( false ).build() ) );
+    }
+
+    public void testSerializePropertiesIgnoredOnProperty() {
+        tester.testSerializePropertiesIgnoredOnProperty( createWriter( BeanWithIgnoredPropertiesOnPropertyWriter.INSTANCE ) );
+    }
+
+    public void testSerializeEmptyAnyGetter() {
+        tester.testSerializeEmptyAnyGetter( createWriter( BeanWithAnyGetterWriter.INSTANCE ) );
+    }
+
+    public void testSerializeAnyGetter() {
+        tester.testSerializeAnyGetter( createWriter( BeanWithAnyGetterWriter.INSTANCE ) );
+    }
+}
@@ -17,6 +17,8 @@
 package com.github.nmorel.gwtjackson.client.mapper;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.github.nmorel.gwtjackson.client.AbstractObjectReader;
 import com.github.nmorel.gwtjackson.client.AbstractObjectWriter;
@@ -170,4 +172,64 @@ public class CommonJsonMapperTest extends GwtJacksonTestCase {
             assertSame( jsonSerializationException, e );
         }
     }
+
+    public void testDefaultContextReused() {
+        final List<JsonDeserializationContext> contexts = new ArrayList<JsonDeserializationContext>();
+        final List<ObjectReader<String>> self = new ArrayList<ObjectReader<String>>();
+        ObjectReader<String> reader = new AbstractObjectReader<String>( null ) {
+            @Override
+            protected JsonDeserializer<String> newDeserializer() {
+                return new JsonDeserializer<String>() {
+                    @Override
+                    protected String doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+                        contexts.add( ctx );
+                        String value = reader.nextString();
+                        if ( "nested".equals( value ) ) {
+                            return value + ":" + self.get( 0 ).read( "\"inner\"" );
+                        }
+                        return value;
+                    }
+                };
+            }
+        };
+        self.add( reader );
+
+        assertEquals( "a", reader.read( "\"a\"" ) );
+        assertEquals( "b", reader.read( "\"b\"" ) );
+        assertSame( contexts.get( 0 ), contexts.get( 1 ) );
+
+        // a nested call cannot use the context in use
+        assertEquals( "nested:inner", reader.read( "\"nested\"" ) );
+        assertSame( contexts.get( 0 ), contexts.get( 2 ) );
+        assertNotSame( contexts.get( 0 ), contexts.get( 3 ) );
+
+        try {
+            reader.read( "[" );
+            fail();
+        } catch ( JsonDeserializationException expected ) {
+        }
+        assertEquals( "c", reader.read( "\"c\"" ) );
+        assertSame( contexts.get( 0 ), contexts.get( 4 ) );
+    }
+
+    public void testDefaultWriterReused() {
+        final List<JsonSerializationContext> contexts = new ArrayList<JsonSerializationContext>();
+        ObjectWriter<String> writer = new AbstractObjectWriter<String>( null ) {
+            @Override
+            protected JsonSerializer<String> newSerializer() {
+                return new JsonSerializer<String>() {
+                    @Override
+                    protected void doSerialize( JsonWriter writer, @Nonnull String value, JsonSerializationContext ctx,
+                                                JsonSerializerParameters params ) {
+                        contexts.add( ctx );
+                        writer.value( value );
+                    }
+                };
+            }
+        };
+
+        assertEquals( "\"a\"", writer.write( "a" ) );
+        assertEquals( "\"b\"", writer.write( "b" ) );
+        assertSame( contexts.get( 0 ), contexts.get( 1 ) );
+    }
 }
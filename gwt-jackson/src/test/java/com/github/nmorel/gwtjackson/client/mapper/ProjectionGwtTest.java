@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.deser.bean.Projection;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class ProjectionGwtTest extends GwtJacksonTestCase {
+
+    public static class Detail {
+
+        static int instances = 0;
+
+        public String description;
+
+        public Detail() {
+            instances++;
+        }
+    }
+
+    public static class Item {
+
+        public int id;
+
+        public String name;
+
+        public Detail detail;
+    }
+
+    public static class Screen {
+
+        public String title;
+
+        public int count;
+
+        public List<Item> items;
+
+        public Detail detail;
+    }
+
+    public interface ScreenReader extends ObjectReader<Screen> {
+
+        static ScreenReader INSTANCE = GWT.create( ScreenReader.class );
+    }
+
+    public interface ItemListReader extends ObjectReader<List<Item>> {
+
+        static ItemListReader INSTANCE = GWT.create( ItemListReader.class );
+    }
+
+    private static final String SCREEN = "{\"title\":\"Items\",\"count\":2,\"detail\":{\"description\":\"screen\"},\"items\":[" +
+            "{\"id\":1,\"name\":\"a\",\"detail\":{\"description\":\"first\"}}," +
+            "{\"detail\":{\"description\":\"second\"},\"name\":\"b\",\"id\":2}]}";
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+        Detail.instances = 0;
+    }
+
+    public void testProjection() {
+        Screen screen = ScreenReader.INSTANCE.read( SCREEN, new JsonDeserializationContext.Builder()
+                .projection( "title, items[].id, items[].name" ).build() );
+
+        assertEquals( "Items", screen.title );
+        assertEquals( 0, screen.count );
+        assertNull( screen.detail );
+        assertEquals( 2, screen.items.size() );
+        assertEquals( 1, screen.items.get( 0 ).id );
+        assertEquals( "a", screen.items.get( 0 ).name );
+        assertNull( screen.items.get( 0 ).detail );
+        assertEquals( 2, screen.items.get( 1 ).id );
+        assertEquals( "b", screen.items.get( 1 ).name );
+        assertNull( screen.items.get( 1 ).detail );
+
+        // the skipped beans are never instantiated
+        assertEquals( 0, Detail.instances );
+    }
+
+    public void testProjectionWholeValue() {
+        Screen screen = ScreenReader.INSTANCE.read( SCREEN, new JsonDeserializationContext.Builder()
+                .projection( "items.detail,items.detail.description,detail" ).build() );
+
+        assertNull( screen.title );
+        assertEquals( "screen", screen.detail.description );
+        assertEquals( 0, screen.items.get( 0 ).id );
+        assertEquals( "first", screen.items.get( 0 ).detail.description );
+        assertEquals( "second", screen.items.get( 1 ).detail.description );
+        assertEquals( 3, Detail.instances );
+    }
+
+    public void testProjectionOnRootList() {
+        List<Item> items = ItemListReader.INSTANCE.read( "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]",
+                new JsonDeserializationContext.Builder().projection( "name" ).build() );
+
+        assertEquals( 2, items.size() );
+        assertEquals( 0, items.get( 0 ).id );
+        assertEquals( "a", items.get( 0 ).name );
+        assertEquals( "b", items.get( 1 ).name );
+    }
+
+    public void testInvalidProjection() {
+        try {
+            Projection.parse( "items..id" );
+            fail();
+        } catch ( IllegalArgumentException expected ) {
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
+import com.github.nmorel.gwtjackson.shared.mapper.PropertyNameDispatchTester;
+import com.github.nmorel.gwtjackson.shared.mapper.PropertyNameDispatchTester.PropertyNameBean;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class PropertyNameDispatchGwtTest extends GwtJacksonTestCase {
+
+    public interface PropertyNameBeanMapper extends ObjectMapper<PropertyNameBean>, ObjectMapperTester<PropertyNameBean> {
+
+        static PropertyNameBeanMapper INSTANCE = GWT.create( PropertyNameBeanMapper.class );
+    }
+
+    public void testDeserializeProperties() {
+        PropertyNameDispatchTester.INSTANCE.testDeserializeProperties( PropertyNameBeanMapper.INSTANCE );
+    }
+
+    public void testDeserializeUnknownProperty() {
+        PropertyNameDispatchTester.INSTANCE.testDeserializeUnknownProperty( PropertyNameBeanMapper.INSTANCE );
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.ObjectUpdater;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class ReadIntoGwtTest extends GwtJacksonTestCase {
+
+    public static class Address {
+
+        public String city;
+    }
+
+    public static class Item {
+
+        public String name;
+
+        public int count;
+    }
+
+    @JsonTypeInfo( use = JsonTypeInfo.Id.NAME )
+    @JsonSubTypes( {@JsonSubTypes.Type( value = Circle.class, name = "circle" ), @JsonSubTypes.Type( value = Square.class,
+            name = "square" )} )
+    public static abstract class Shape {}
+
+    public static class Circle extends Shape {
+
+        public int radius;
+    }
+
+    public static class Square extends Shape {
+
+        public int side;
+    }
+
+    public static class Immutable {
+
+        private final String name;
+
+        @JsonCreator
+        public Immutable( @JsonProperty( "name" ) String name ) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class ViewModel {
+
+        public String title;
+
+        public Address address;
+
+        private List<Item> items;
+
+        public Map<String, Item> itemsByName;
+
+        public Shape shape;
+
+        public Immutable immutable;
+
+        public int[] values;
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems( List<Item> items ) {
+            this.items = items;
+        }
+    }
+
+    public interface ViewModelReader extends ObjectReader<ViewModel> {
+
+        static ViewModelReader INSTANCE = GWT.create( ViewModelReader.class );
+    }
+
+    public interface ItemListReader extends ObjectReader<List<Item>> {
+
+        static ItemListReader INSTANCE = GWT.create( ItemListReader.class );
+    }
+
+    public void testReadIntoBean() {
+        ViewModel model = ViewModelReader.INSTANCE.read( "{\"title\":\"first\",\"address\":{\"city\":\"Paris\"}," +
+                "\"items\":[{\"name\":\"a\",\"count\":1},{\"name\":\"b\",\"count\":2}]," +
+                "\"itemsByName\":{\"a\":{\"name\":\"a\",\"count\":1},\"b\":{\"name\":\"b\",\"count\":2}}," +
+                "\"shape\":{\"@type\":\"circle\",\"radius\":5},\"immutable\":{\"name\":\"x\"},\"values\":[1,2]}" );
+
+        Address address = model.address;
+        List<Item> items = model.getItems();
+        Item itemA = items.get( 0 );
+        Map<String, Item> itemsByName = model.itemsByName;
+        Item itemB = itemsByName.get( "b" );
+        Shape shape = model.shape;
+        Immutable immutable = model.immutable;
+
+        ViewModel result = ObjectUpdater.readInto( ViewModelReader.INSTANCE, "{\"title\":\"second\",\"address\":{\"city\":\"Lyon\"}," +
+                "\"items\":[{\"name\":\"a\",\"count\":10},{\"name\":\"c\",\"count\":3},{\"name\":\"d\",\"count\":4}]," +
+                "\"itemsByName\":{\"b\":{\"name\":\"b\",\"count\":20}}," +
+                "\"shape\":{\"@type\":\"circle\",\"radius\":6},\"immutable\":{\"name\":\"y\"},\"values\":[3]}", model );
+
+        assertSame( model, result );
+        assertEquals( "second", model.title );
+
+        assertSame( address, model.address );
+        assertEquals( "Lyon", address.city );
+
+        assertSame( items, model.getItems() );
+        assertEquals( 3, items.size() );
+        assertSame( itemA, items.get( 0 ) );
+        assertEquals( 10, itemA.count );
+        assertEquals( "c", items.get( 1 ).name );
+        assertEquals( "d", items.get( 2 ).name );
+
+        assertSame( itemsByName, model.itemsByName );
+        assertEquals( 1, itemsByName.size() );
+        assertSame( itemB, itemsByName.get( "b" ) );
+        assertEquals( 20, itemB.count );
+
+        assertSame( shape, model.shape );
+        assertEquals( 6, ((Circle) shape).radius );
+
+        // the properties of a bean built with a constructor cannot be updated
+        assertNotSame( immutable, model.immutable );
+        assertEquals( "y", model.immutable.getName() );
+
+        assertEquals( 1, model.values.length );
+        assertEquals( 3, model.values[0] );
+    }
+
+    public void testReadIntoReplacedValues() {
+        ViewModel model = new ViewModel();
+        model.address = new Address();
+        model.shape = new Circle();
+        List<Item> items = Collections.unmodifiableList( new ArrayList<Item>() );
+        model.setItems( items );
+
+        ViewModel result = ObjectUpdater.readInto( ViewModelReader.INSTANCE, "{\"address\":null," +
+                "\"shape\":{\"@type\":\"square\",\"side\":2},\"items\":[{\"name\":\"a\",\"count\":1}]}", model );
+
+        assertSame( model, result );
+        assertNull( model.address );
+        assertEquals( 2, ((Square) model.shape).side );
+        assertNotSame( items, model.getItems() );
+        assertEquals( 1, model.getItems().size() );
+        assertEquals( "a", model.getItems().get( 0 ).name );
+    }
+
+    public void testReadIntoNull() {
+        ViewModel result = ObjectUpdater.readInto( ViewModelReader.INSTANCE, "{\"title\":\"new\"}", null );
+        assertEquals( "new", result.title );
+    }
+
+    public void testReadIntoList() {
+        List<Item> items = new ArrayList<Item>();
+        Item item = new Item();
+        items.add( item );
+
+        List<Item> result = ObjectUpdater
+                .readInto( ItemListReader.INSTANCE, "[{\"name\":\"a\",\"count\":1},{\"name\":\"b\",\"count\":2}]", items );
+
+        assertSame( items, result );
+        assertEquals( 2, items.size() );
+        assertSame( item, items.get( 0 ) );
+        assertEquals( "a", item.name );
+        assertEquals( 2, items.get( 1 ).count );
+    }
+}
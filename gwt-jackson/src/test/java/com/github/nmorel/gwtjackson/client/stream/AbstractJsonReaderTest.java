@@ -47,6 +47,77 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
     }
 
+    public void testReset() {
+        JsonReader reader = newJsonReader( "{\"a\": [1, 2]}" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        reader.beginArray();
+        assertEquals( 1, reader.nextInt() );
+
+        reader.reset( "[true]" );
+        assertEquals( "[true]", reader.getInput() );
+        reader.beginArray();
+        assertEquals( true, reader.nextBoolean() );
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testResetEmptyInput() {
+        JsonReader reader = newJsonReader( "[1]" );
+        reader.beginArray();
+
+        // an empty input releases the previous one without failing
+        reader.reset( "" );
+        assertEquals( "", reader.getInput() );
+
+        reader.reset( "[2]" );
+        reader.beginArray();
+        assertEquals( 2, reader.nextInt() );
+    }
+
+    public void testMarkAndRewind() {
+        StringBuilder longValue = new StringBuilder();
+        for ( int i = 0; i < 2000; i++ ) {
+            longValue.append( 'x' );
+        }
+        JsonReader reader = newJsonReader( "{\"a\": [1, {\"b\": null}],\n \"c\": \"" + longValue + "\", \"d\": 3}" );
+        reader.beginObject();
+        reader.mark();
+
+        assertEquals( "a", reader.nextName() );
+        reader.skipValue();
+        assertEquals( "c", reader.nextName() );
+        reader.skipValue();
+        assertEquals( "d", reader.nextName() );
+        assertEquals( 3, reader.nextInt() );
+        assertEquals( JsonToken.END_OBJECT, reader.peek() );
+
+        reader.rewind();
+        assertEquals( "a", reader.nextName() );
+        reader.beginArray();
+        assertEquals( 1, reader.nextInt() );
+        reader.beginObject();
+        assertEquals( "b", reader.nextName() );
+        reader.nextNull();
+        reader.endObject();
+        reader.endArray();
+        assertEquals( "c", reader.nextName() );
+        assertEquals( longValue.toString(), reader.nextString() );
+        assertEquals( "d", reader.nextName() );
+        assertEquals( 3, reader.nextInt() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testRewindWithoutMark() {
+        JsonReader reader = newJsonReader( "[1]" );
+        try {
+            reader.rewind();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+
     public void testReadEmptyArray() {
         JsonReader reader = newJsonReader( "[]" );
         reader.beginArray();
@@ -494,6 +565,17 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         assertEquals( 9223372036854775807L, reader.nextLong() );
     }
 
+    public void testLongsAroundMaxSafeInteger() {
+        JsonReader reader = newJsonReader( "[9007199254740991,-9007199254740991,9007199254740992,-9007199254740993,1234567890123]" );
+        reader.beginArray();
+        assertEquals( 9007199254740991L, reader.nextLong() );
+        assertEquals( -9007199254740991L, reader.nextLong() );
+        assertEquals( 9007199254740992L, reader.nextLong() );
+        assertEquals( -9007199254740993L, reader.nextLong() );
+        assertEquals( "1234567890123", reader.nextString() );
+        reader.endArray();
+    }
+
     public void testLongLargerThanMaxLongThatWrapsAround() {
         JsonReader reader = newJsonReader( "[22233720368547758070]" );
         reader.setLenient( true );
@@ -1668,6 +1750,42 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         }
     }
 
+    public void testNextValueReader() {
+        JsonReader reader = newJsonReader( "{\"a\": [1, {\"b\": \"x\"}], \"c\": \"str\", \"d\": 12, \"e\": true, \"f\": 1.5}" );
+        reader.beginObject();
+
+        assertEquals( "a", reader.nextName() );
+        JsonReader a = reader.nextValueReader();
+        a.beginArray();
+        assertEquals( 1, a.nextInt() );
+        a.beginObject();
+        assertEquals( "b", a.nextName() );
+        assertEquals( "x", a.nextString() );
+        a.endObject();
+        a.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, a.peek() );
+
+        assertEquals( "c", reader.nextName() );
+        JsonReader c = reader.nextValueReader();
+        assertEquals( "d", reader.nextName() );
+        JsonReader d = reader.nextValueReader();
+        assertEquals( "e", reader.nextName() );
+        JsonReader e = reader.nextValueReader();
+        assertEquals( "f", reader.nextName() );
+        JsonReader f = reader.nextValueReader();
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+
+        assertEquals( "str", c.nextString() );
+        assertEquals( JsonToken.END_DOCUMENT, c.peek() );
+        assertEquals( 12, d.nextInt() );
+        assertEquals( JsonToken.END_DOCUMENT, d.peek() );
+        assertTrue( e.nextBoolean() );
+        assertEquals( JsonToken.END_DOCUMENT, e.peek() );
+        assertEquals( 1.5, f.nextDouble() );
+        assertEquals( JsonToken.END_DOCUMENT, f.peek() );
+    }
+
     /**
      * Returns a reader that returns one character at a time.
      */
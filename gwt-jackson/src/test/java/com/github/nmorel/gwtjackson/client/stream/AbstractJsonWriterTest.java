@@ -197,6 +197,19 @@ public abstract class AbstractJsonWriterTest extends GwtJacksonTestCase {
         assertEquals( "[0," + "1," + "-1," + "-9223372036854775808," + "9223372036854775807]", jsonWriter.getOutput() );
     }
 
+    public void testLongsAroundMaxSafeInteger() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( 9007199254740991L );
+        jsonWriter.value( -9007199254740991L );
+        jsonWriter.value( 9007199254740992L );
+        jsonWriter.value( -9007199254740993L );
+        jsonWriter.value( 1234567890123L );
+        jsonWriter.endArray();
+        assertEquals( "[9007199254740991,-9007199254740991,9007199254740992,-9007199254740993,1234567890123]", jsonWriter
+                .getOutput() );
+    }
+
     public void testNumbers() {
         JsonWriter jsonWriter = newJsonWriter();
         jsonWriter.beginArray();
@@ -291,6 +304,21 @@ public abstract class AbstractJsonWriterTest extends GwtJacksonTestCase {
         assertEquals( "[{\"a\":5,\"b\":false}," + "{\"c\":6,\"d\":true}]", jsonWriter.getOutput() );
     }
 
+    public void testEscapedNames() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.setSerializeNulls( false );
+        jsonWriter.beginObject();
+        jsonWriter.name( "a", "\"a\"" ).value( 5 );
+        jsonWriter.name( "b", "\"b\"" ).nullValue();
+        jsonWriter.name( "c", "\"c\"" ).cancelName();
+        jsonWriter.name( "d\"" ).value( true );
+        jsonWriter.name( "e", "\"e\"" );
+        jsonWriter.beginArray();
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        assertEquals( "{\"a\":5,\"d\\\"\":true,\"e\":[]}", jsonWriter.getOutput() );
+    }
+
     public void testArraysInObjects() {
         JsonWriter jsonWriter = newJsonWriter();
         jsonWriter.beginObject();
@@ -497,4 +525,20 @@ public abstract class AbstractJsonWriterTest extends GwtJacksonTestCase {
 
         assertEquals( "{\"json\":\"{\\\"key\\\":\\\"value\\\"}\"}", jsonWriter.getOutput() );
     }
+
+    public void testReset() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "a" );
+        jsonWriter.beginArray();
+        jsonWriter.value( 1 );
+
+        jsonWriter.reset();
+        jsonWriter.beginArray();
+        jsonWriter.value( true );
+        jsonWriter.endArray();
+        jsonWriter.close();
+
+        assertEquals( "[true]", jsonWriter.getOutput() );
+    }
 }
@@ -33,4 +33,23 @@ public class DefaultJsonReaderTest extends AbstractJsonReaderTest {
         reader.endArray();
         assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
     }
+
+    public void testRewindToPeekedNumber() {
+        String longValue = repeat( 'x', 2048 );
+        JsonReader reader = newJsonReader( "[1.5, \"" + longValue + "\", 2]" );
+        reader.beginArray();
+        // the number is peeked before the mark and the buffer is refilled before the rewind
+        assertEquals( JsonToken.NUMBER, reader.peek() );
+        reader.mark();
+        assertEquals( 1.5, reader.nextDouble() );
+        assertEquals( longValue, reader.nextString() );
+        assertEquals( 2, reader.nextInt() );
+
+        reader.rewind();
+        assertEquals( 1.5, reader.nextDouble() );
+        assertEquals( longValue, reader.nextString() );
+        assertEquals( 2, reader.nextInt() );
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
 }
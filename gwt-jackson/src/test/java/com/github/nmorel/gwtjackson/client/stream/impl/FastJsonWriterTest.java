@@ -16,16 +16,118 @@
 
 package com.github.nmorel.gwtjackson.client.stream.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.AppendableWriter;
+import com.github.nmorel.gwtjackson.client.ObjectWriter;
 import com.github.nmorel.gwtjackson.client.stream.AbstractJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsonUtils;
 
 /**
  * @author Nicolas Morel
  */
 public class FastJsonWriterTest extends AbstractJsonWriterTest {
 
+    public interface StringListWriter extends ObjectWriter<List<String>> {
+
+        static StringListWriter INSTANCE = GWT.create( StringListWriter.class );
+    }
+
+    /**
+     * {@link Appendable} keeping the chunks it receives
+     */
+    private static class ChunksAppendable implements Appendable {
+
+        private final List<String> chunks = new ArrayList<String>();
+
+        @Override
+        public Appendable append( CharSequence csq ) {
+            chunks.add( csq.toString() );
+            return this;
+        }
+
+        @Override
+        public Appendable append( CharSequence csq, int start, int end ) {
+            return append( csq.subSequence( start, end ) );
+        }
+
+        @Override
+        public Appendable append( char c ) {
+            return append( String.valueOf( c ) );
+        }
+
+        private String join() {
+            StringBuilder builder = new StringBuilder();
+            for ( String chunk : chunks ) {
+                builder.append( chunk );
+            }
+            return builder.toString();
+        }
+    }
+
     @Override
     public JsonWriter newJsonWriter() {
         return new FastJsonWriter( new StringBuilder() );
     }
+
+    public void testSink() {
+        ChunksAppendable sink = new ChunksAppendable();
+        FastJsonWriter writer = new FastJsonWriter( sink );
+        writer.beginArray();
+        writer.value( "a" );
+        writer.value( 1 );
+        assertTrue( sink.chunks.isEmpty() );
+        assertEquals( "[\"a\",1", writer.getOutput() );
+
+        writer.flush();
+        assertEquals( 1, sink.chunks.size() );
+        assertEquals( "", writer.getOutput() );
+
+        writer.value( true );
+        writer.endArray();
+        writer.close();
+        assertEquals( "[\"a\",1,true]", sink.join() );
+    }
+
+    public void testWriteToAppendable() {
+        List<String> values = new ArrayList<String>();
+        for ( int i = 0; i < 3000; i++ ) {
+            values.add( "value" + i );
+        }
+
+        ChunksAppendable sink = new ChunksAppendable();
+        AppendableWriter.write( StringListWriter.INSTANCE, values, sink );
+
+        // the output is appended by chunks while it is written
+        assertTrue( sink.chunks.size() > 1 );
+        assertEquals( StringListWriter.INSTANCE.write( values ), sink.join() );
+    }
+
+    public void testStringsWithAndWithoutEscaping() {
+        StringBuilder longText = new StringBuilder();
+        for ( int i = 0; i < 100; i++ ) {
+            longText.append( "Some text typed by a user, with accents \u00e9\u00e8 and symbols <>&='. " );
+        }
+
+        String[] values = new String[]{longText.toString(), longText + "\n", "soft\u00adhyphen", "zero\u200bwidth", "\ufeffbom",
+                "arabic\u0600", "\\", "\u007f\u0080\u00ac\u00ae"};
+
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        StringBuilder expected = new StringBuilder( "[" );
+        for ( int i = 0; i < values.length; i++ ) {
+            jsonWriter.value( values[i] );
+            if ( i > 0 ) {
+                expected.append( ',' );
+            }
+            expected.append( JsonUtils.escapeValue( values[i] ) );
+        }
+        jsonWriter.endArray();
+        expected.append( ']' );
+
+        assertEquals( expected.toString(), jsonWriter.getOutput() );
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.ChunkedArrayReader;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class IncrementalJsonArrayReaderTest extends GwtJacksonTestCase {
+
+    public static class Person {
+
+        public String name;
+
+        public int age;
+    }
+
+    public interface PersonListReader extends ObjectReader<List<Person>> {
+
+        static PersonListReader INSTANCE = GWT.create( PersonListReader.class );
+    }
+
+    public void testElementsByChunk() {
+        IncrementalJsonArrayReader reader = new IncrementalJsonArrayReader();
+        assertNull( reader.nextElement() );
+
+        reader.append( ")]}'\n [ 1, \"a,]" );
+        assertEquals( "1", reader.nextElement() );
+        assertNull( reader.nextElement() );
+
+        reader.append( "\\\"b\" , {\"x\": [1, {\"y\": \"}\"}]}" );
+        assertEquals( "\"a,]\\\"b\"", reader.nextElement() );
+        assertEquals( "{\"x\": [1, {\"y\": \"}\"}]}", reader.nextElement() );
+        assertNull( reader.nextElement() );
+        assertFalse( reader.isEndOfArray() );
+
+        reader.append( ",tr" );
+        assertNull( reader.nextElement() );
+        reader.append( "ue,[]]  " );
+        assertEquals( "true", reader.nextElement() );
+        assertEquals( "[]", reader.nextElement() );
+        assertNull( reader.nextElement() );
+        assertTrue( reader.isEndOfArray() );
+
+        reader.close();
+        assertNull( reader.nextElement() );
+    }
+
+    public void testIncompleteArray() {
+        IncrementalJsonArrayReader reader = new IncrementalJsonArrayReader();
+        reader.append( "[1, 2" );
+        assertEquals( "1", reader.nextElement() );
+        reader.close();
+        try {
+            reader.nextElement();
+            fail();
+        } catch ( MalformedJsonException expected ) {
+        }
+    }
+
+    public void testNotAnArray() {
+        IncrementalJsonArrayReader reader = new IncrementalJsonArrayReader();
+        reader.append( "{\"a\":1}" );
+        try {
+            reader.nextElement();
+            fail();
+        } catch ( MalformedJsonException expected ) {
+        }
+    }
+
+    public void testReadChunked() {
+        final List<Person> persons = new ArrayList<Person>();
+        ChunkedArrayReader<Person> reader = ChunkedArrayReader.create( PersonListReader.INSTANCE, new ChunkedArrayReader
+                .Callback<Person>() {
+            @Override
+            public void onElement( Person element ) {
+                persons.add( element );
+            }
+        } );
+
+        reader.append( "[{\"name\":\"John\",\"age\":42},{\"name\":\"Ti" );
+        assertEquals( 1, persons.size() );
+        assertEquals( "John", persons.get( 0 ).name );
+        assertEquals( 42, persons.get( 0 ).age );
+
+        reader.append( "m\",\"age\":5},null" );
+        assertEquals( 2, persons.size() );
+        assertEquals( "Tim", persons.get( 1 ).name );
+        assertFalse( reader.isComplete() );
+
+        reader.append( "]" );
+        reader.end();
+        assertEquals( 3, persons.size() );
+        assertNull( persons.get( 2 ) );
+        assertTrue( reader.isComplete() );
+    }
+}
@@ -0,0 +1,724 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.stream.AbstractJsonReaderTest;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * The native reader only accepts strict JSON. The tests of the lenient syntax and of the positions in the input are overridden with
+ * the behaviour of the native reader.
+ *
+ * @author Nicolas Morel
+ */
+public class NativeJsonReaderTest extends AbstractJsonReaderTest {
+
+    public static class Person {
+
+        public String name;
+
+        public int age;
+
+        public List<String> tags;
+
+        public Person parent;
+    }
+
+    public interface PersonListReader extends ObjectReader<List<Person>> {
+
+        static PersonListReader INSTANCE = GWT.create( PersonListReader.class );
+    }
+
+    public interface IntegerMapReader extends ObjectReader<Map<Integer, String>> {
+
+        static IntegerMapReader INSTANCE = GWT.create( IntegerMapReader.class );
+    }
+
+    @Override
+    public JsonReader newJsonReader( String input ) {
+        return new NativeJsonReader( input );
+    }
+
+    @Override
+    public void testLenientComments() {
+        // the lenient syntax is not supported, the input is rejected as soon as the reader is created
+        assertMalformed( "[// comment \n true]", "[# comment \n true]", "[/* comment */ true]" );
+    }
+
+    @Override
+    public void testLenientExtraCommasInMaps() {
+        assertMalformedOrReadAs( "{\"a\":\"b\",}", "{\"a\":\"b\"}" );
+    }
+
+    @Override
+    public void testLenientMultipleTopLevelValues() {
+        assertMalformed( "[] true {}" );
+    }
+
+    @Override
+    public void testLenientNameValueSeparator() {
+        assertMalformed( "{\"a\"=true}", "{\"a\"=>true}" );
+    }
+
+    @Override
+    public void testLenientNonFiniteDoubles() {
+        assertMalformed( "[NaN, -Infinity, Infinity]" );
+    }
+
+    @Override
+    public void testLenientPartialNonExecutePrefix() {
+        assertMalformed( ")]}' []" );
+    }
+
+    @Override
+    public void testLenientSemicolonDelimitedArray() {
+        assertMalformed( "[true;true]" );
+    }
+
+    @Override
+    public void testLenientSemicolonDelimitedNameValuePair() {
+        assertMalformed( "{\"a\":true;\"b\":true}" );
+    }
+
+    @Override
+    public void testLenientSingleQuotedNames() {
+        assertMalformed( "{'a':true}" );
+    }
+
+    @Override
+    public void testLenientSingleQuotedStrings() {
+        assertMalformed( "['a']" );
+    }
+
+    @Override
+    public void testLenientUnnecessaryArraySeparators() {
+        assertMalformed( "[true,,true]", "[,true]", "[,]" );
+        assertMalformedOrReadAs( "[true,]", "[true]" );
+    }
+
+    @Override
+    public void testLenientUnquotedNames() {
+        assertMalformed( "{a:true}" );
+    }
+
+    @Override
+    public void testLenientUnquotedStrings() {
+        assertMalformed( "[a]" );
+    }
+
+    @Override
+    public void testMixedCaseLiterals() {
+        assertMalformed( "[True,TruE,False,FALSE,NULL,nulL]" );
+    }
+
+    @Override
+    public void testPeekingUnquotedStringsPrefixedWithBooleans() {
+        assertMalformed( "[truey]" );
+    }
+
+    @Override
+    public void testPeekingUnquotedStringsPrefixedWithIntegers() {
+        assertMalformed( "[12.34e5x]" );
+    }
+
+    @Override
+    public void testStringAsNumberWithDigitAndNonDigitExponent() {
+        assertMalformed( "[123e4b]" );
+    }
+
+    @Override
+    public void testStringAsNumberWithNonDigitExponent() {
+        assertMalformed( "[123eb]" );
+    }
+
+    @Override
+    public void testStringAsNumberWithTruncatedExponent() {
+        assertMalformed( "[123e]" );
+    }
+
+    @Override
+    public void testStringEndingInSlash() {
+        assertMalformed( "/" );
+    }
+
+    @Override
+    public void testStringWithLeadingSlash() {
+        assertMalformed( "/x" );
+    }
+
+    @Override
+    public void testDocumentWithCommentEndingInSlash() {
+        assertMalformed( "/* foo *//" );
+    }
+
+    @Override
+    public void testSkipTopLevelUnquotedString() {
+        assertMalformed( repeat( 'x', 8192 ) );
+    }
+
+    @Override
+    public void testSkipVeryLongUnquotedString() {
+        assertMalformed( "[" + repeat( 'x', 8192 ) + "]" );
+    }
+
+    @Override
+    public void testVeryLongUnquotedLiteral() {
+        assertMalformed( "[a" + repeat( 'b', 8192 ) + "c]" );
+    }
+
+    @Override
+    public void testVeryLongUnquotedString() {
+        assertMalformed( "[" + repeat( 'x', 1024 * 16 ) + "]" );
+    }
+
+    @Override
+    public void testMalformedNumbers() {
+        assertMalformed( "[-]", "[.]", "[e]", "[0e]", "[.e]", "[0.e]", "[-.0e]", "[e1]", "[.e1]", "[-e1]", "[1x]", "[1.1x]", "[1e1x]",
+                "[1ex]", "[1.1ex]", "[1.1e1x]", "[.0]", "[.0e1]" );
+        assertMalformedOrReadAs( "[0.]", "[0]" );
+        assertMalformedOrReadAs( "[-0.]", "[0]" );
+        assertMalformedOrReadAs( "[0.e1]", "[0]" );
+        assertMalformedOrReadAs( "[-0.e1]", "[0]" );
+        assertMalformedOrReadAs( "[-.0]", "[0]" );
+        assertMalformedOrReadAs( "[-.0e1]", "[0]" );
+    }
+
+    @Override
+    public void testFailWithPosition() {
+        // the position in the input is not tracked, the error comes from the native parser
+        assertMalformed( "[\n\n\n\n\n\"a\",}]" );
+    }
+
+    @Override
+    public void testFailWithPositionGreaterThanBufferSize() {
+        assertMalformed( "[\n\n" + repeat( ' ', 8192 ) + "\n\n\n\"a\",}]" );
+    }
+
+    @Override
+    public void testFailWithPositionOverSlashSlashEndOfLineComment() {
+        assertMalformed( "\n// foo\n\n//bar\r\n[\"a\",}" );
+    }
+
+    @Override
+    public void testFailWithPositionOverHashEndOfLineComment() {
+        assertMalformed( "\n# foo\n\n#bar\r\n[\"a\",}" );
+    }
+
+    @Override
+    public void testFailWithPositionOverCStyleComment() {
+        assertMalformed( "\n\n/* foo\n*\n*\r\nbar */[\"a\",}" );
+    }
+
+    @Override
+    public void testFailWithPositionOverQuotedString() {
+        assertMalformed( "[\"foo\nbar\r\nbaz\n\",\n  }" );
+    }
+
+    @Override
+    public void testFailWithPositionOverUnquotedString() {
+        assertMalformed( "[\n\nabcd\n\n,}" );
+    }
+
+    @Override
+    public void testFailWithEscapedNewlineCharacter() {
+        assertMalformed( "[\n\n\"\\\n\n\",}" );
+    }
+
+    @Override
+    public void testFailWithPositionIsOffsetByBom() {
+        assertMalformed( "\ufeff[\"a\",}]" );
+    }
+
+    @Override
+    public void testStrictComments() {
+        // the malformed input is rejected as soon as the reader is created and not when the faulty token is read
+        assertMalformed( "[// comment \n true]", "[# comment \n true]", "[/* comment */ true]" );
+    }
+
+    @Override
+    public void testStrictCommentsWithSkipValue() {
+        assertMalformed( "[// comment \n true]", "[# comment \n true]", "[/* comment */ true]" );
+    }
+
+    @Override
+    public void testStrictExtraCommasInMaps() {
+        assertMalformedOrReadAs( "{\"a\":\"b\",}", "{\"a\":\"b\"}" );
+    }
+
+    @Override
+    public void testStrictMultipleTopLevelValues() {
+        assertMalformed( "[] []" );
+    }
+
+    @Override
+    public void testStrictMultipleTopLevelValuesWithSkipValue() {
+        assertMalformed( "[] []" );
+    }
+
+    @Override
+    public void testStrictNameValueSeparator() {
+        assertMalformed( "{\"a\"=true}", "{\"a\"=>true}" );
+    }
+
+    @Override
+    public void testStrictNameValueSeparatorWithSkipValue() {
+        assertMalformed( "{\"a\"=true}", "{\"a\"=>true}" );
+    }
+
+    @Override
+    public void testStrictNonFiniteDoubles() {
+        assertMalformed( "[NaN]" );
+    }
+
+    @Override
+    public void testStrictNonFiniteDoublesWithSkipValue() {
+        assertMalformed( "[NaN]" );
+    }
+
+    @Override
+    public void testStrictSemicolonDelimitedArray() {
+        assertMalformed( "[true;true]" );
+    }
+
+    @Override
+    public void testStrictSemicolonDelimitedArrayWithSkipValue() {
+        assertMalformed( "[true;true]" );
+    }
+
+    @Override
+    public void testStrictSemicolonDelimitedNameValuePair() {
+        assertMalformed( "{\"a\":true;\"b\":true}" );
+    }
+
+    @Override
+    public void testStrictSemicolonDelimitedNameValuePairWithSkipValue() {
+        assertMalformed( "{\"a\":true;\"b\":true}" );
+    }
+
+    @Override
+    public void testStrictSingleQuotedNames() {
+        assertMalformed( "{'a':true}" );
+    }
+
+    @Override
+    public void testStrictSingleQuotedNamesWithSkipValue() {
+        assertMalformed( "{'a':true}" );
+    }
+
+    @Override
+    public void testStrictSingleQuotedStrings() {
+        assertMalformed( "['a']" );
+    }
+
+    @Override
+    public void testStrictSingleQuotedStringsWithSkipValue() {
+        assertMalformed( "['a']" );
+    }
+
+    @Override
+    public void testStrictUnnecessaryArraySeparators() {
+        assertMalformed( "[true,,true]", "[,true]", "[,]" );
+        assertMalformedOrReadAs( "[true,]", "[true]" );
+    }
+
+    @Override
+    public void testStrictUnnecessaryArraySeparatorsWithSkipValue() {
+        assertMalformed( "[true,,true]", "[,true]", "[,]" );
+        assertMalformedOrReadAs( "[true,]", "[true]" );
+    }
+
+    @Override
+    public void testStrictUnquotedNames() {
+        assertMalformed( "{a:true}" );
+    }
+
+    @Override
+    public void testStrictUnquotedNamesWithSkipValue() {
+        assertMalformed( "{a:true}" );
+    }
+
+    @Override
+    public void testStrictUnquotedStrings() {
+        assertMalformed( "[a]" );
+    }
+
+    @Override
+    public void testStrictUnquotedStringsWithSkipValue() {
+        assertMalformed( "[a]" );
+    }
+
+    @Override
+    public void testBomForbiddenAsOtherCharacterInDocument() {
+        assertMalformed( "[\ufeff]" );
+    }
+
+    @Override
+    public void testMissingValue() {
+        assertMalformed( "{\"a\":}" );
+    }
+
+    @Override
+    public void testPrematureEndOfInput() {
+        assertMalformed( "{\"a\":true," );
+    }
+
+    @Override
+    public void testUnescapingInvalidCharacters() {
+        assertMalformed( "[\"\\u000g\"]" );
+    }
+
+    @Override
+    public void testUnescapingTruncatedCharacters() {
+        assertMalformed( "[\"\\u000" );
+    }
+
+    @Override
+    public void testUnescapingTruncatedSequence() {
+        assertMalformed( "[\"\\" );
+    }
+
+    @Override
+    public void testUnterminatedObject() {
+        assertMalformed( "{\"a\":\"android\"x" );
+    }
+
+    @Override
+    public void testUnterminatedStringFailure() {
+        assertMalformed( "[\"string" );
+    }
+
+    @Override
+    public void testVeryLongUnterminatedString() {
+        assertMalformed( "[" + repeat( 'x', 1024 * 16 ) );
+    }
+
+    @Override
+    public void testMalformedDocuments() {
+        assertMalformed( "{]", "{,", "{{", "{[", "{:", "{\"name\",", "{\"name\":}", "{\"name\"::", "{\"name\":,", "{\"name\"=}",
+                "{\"name\"=>}", "{\"name\"=>\"string\":", "{\"name\"=>\"string\"=", "{\"name\"=>\"string\"=>",
+                "{\"name\"=>\"string\",", "{\"name\"=>\"string\",\"name\"", "[}", "[,]", "{", "{\"name\"", "{'name'", "{'name',",
+                "{name", "[", "[string", "[\"string\"", "['string'", "[123", "[123,", "{\"name\":123", "{\"name\":123,",
+                "{\"name\":\"string\"", "{\"name\":\"string\",", "{\"name\":'string'", "{\"name\":'string',", "{\"name\":false",
+                "{\"name\":false,," );
+    }
+
+    @Override
+    public void testStrictNonExecutePrefix() {
+        // the non-execute prefix is always accepted
+        JsonReader reader = newJsonReader( ")]}'\n []" );
+        reader.beginArray();
+        reader.endArray();
+    }
+
+    @Override
+    public void testStrictNonExecutePrefixWithSkipValue() {
+        JsonReader reader = newJsonReader( ")]}'\n []" );
+        reader.skipValue();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    @Override
+    public void testStrictTopLevelString() {
+        // the native parser accepts any top-level value
+        JsonReader reader = newJsonReader( "\"a\"" );
+        assertEquals( "a", reader.nextString() );
+    }
+
+    @Override
+    public void testStrictTopLevelValueType() {
+        JsonReader reader = newJsonReader( "true" );
+        assertTrue( reader.nextBoolean() );
+    }
+
+    @Override
+    public void testStrictTopLevelValueTypeWithSkipValue() {
+        JsonReader reader = newJsonReader( "true" );
+        reader.skipValue();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    @Override
+    public void testDoubles() {
+        JsonReader reader = newJsonReader( "[-0.0,1.0,1.7976931348623157E308,4.9E-324,-0.5,2.2250738585072014E-308,3.141592653589793]" );
+        reader.beginArray();
+        // the sign of -0.0 depends on the engine
+        assertEquals( 0.0, Math.abs( reader.nextDouble() ) );
+        assertEquals( 1.0, reader.nextDouble() );
+        assertEquals( 1.7976931348623157E308, reader.nextDouble() );
+        assertEquals( 4.9E-324, reader.nextDouble() );
+        assertEquals( -0.5, reader.nextDouble() );
+        assertEquals( 2.2250738585072014E-308, reader.nextDouble() );
+        assertEquals( 3.141592653589793, reader.nextDouble() );
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    @Override
+    public void testLongsAroundMaxSafeInteger() {
+        JsonReader reader = newJsonReader( "[9007199254740991,-9007199254740991,9007199254740992,-9007199254740993,1234567890123]" );
+        reader.beginArray();
+        assertEquals( 9007199254740991L, reader.nextLong() );
+        assertEquals( -9007199254740991L, reader.nextLong() );
+        assertEquals( 9007199254740992L, reader.nextLong() );
+        // the numbers are parsed as JavaScript numbers, the integers greater than 2^53 lose precision
+        assertEquals( -9007199254740992L, reader.nextLong() );
+        assertEquals( "1234567890123", reader.nextString() );
+        reader.endArray();
+    }
+
+    public void testReadNestedValues() {
+        JsonReader reader = new NativeJsonReader( "{\"a\": \"android\", \"b\": [1, 2.5, true, null], \"c\": {}}" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        assertEquals( "android", reader.nextString() );
+        assertEquals( "b", reader.nextName() );
+        reader.beginArray();
+        assertEquals( JsonToken.NUMBER, reader.peek() );
+        assertEquals( 1, reader.nextInt() );
+        assertEquals( 2.5, reader.nextDouble() );
+        assertTrue( reader.nextBoolean() );
+        assertEquals( JsonToken.NULL, reader.peek() );
+        reader.nextNull();
+        assertFalse( reader.hasNext() );
+        reader.endArray();
+        assertEquals( "c", reader.nextName() );
+        reader.beginObject();
+        assertFalse( reader.hasNext() );
+        reader.endObject();
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testReadTopLevelValue() {
+        JsonReader reader = new NativeJsonReader( "\"hello\"" );
+        assertEquals( JsonToken.STRING, reader.peek() );
+        assertEquals( "hello", reader.nextString() );
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testNumbersAndStrings() {
+        JsonReader reader = new NativeJsonReader( "[\"12\", 34, \"1.5\", 1345304756543]" );
+        reader.beginArray();
+        assertEquals( 12, reader.nextInt() );
+        assertEquals( "34", reader.nextString() );
+        assertEquals( 1.5, reader.nextDouble() );
+        assertEquals( 1345304756543l, reader.nextLong() );
+        reader.endArray();
+    }
+
+    public void testIntWithFraction() {
+        JsonReader reader = new NativeJsonReader( "[1.5]" );
+        reader.beginArray();
+        try {
+            reader.nextInt();
+            fail();
+        } catch ( NumberFormatException expected ) {
+        }
+        assertEquals( 1.5, reader.nextDouble() );
+    }
+
+    public void testSkipValue() {
+        JsonReader reader = new NativeJsonReader( "{\"a\": {\"c\": [], \"d\": [true, true, {}]}, \"b\": 123}" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        reader.skipValue();
+        assertEquals( "b", reader.nextName() );
+        assertEquals( 123, reader.nextInt() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testNextValue() {
+        JsonReader reader = new NativeJsonReader( "{\"a\": {\"c\": [1, \"x\"]}, \"b\": 123}" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        assertEquals( "{\"c\":[1,\"x\"]}", reader.nextValue() );
+        assertEquals( "b", reader.nextName() );
+        assertEquals( "123", reader.nextValue() );
+        reader.endObject();
+    }
+
+    public void testNextValueReader() {
+        JsonReader reader = new NativeJsonReader( "{\"a\": {\"c\": [1, \"x\"]}, \"b\": null}" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        JsonReader a = reader.nextValueReader();
+        assertEquals( "b", reader.nextName() );
+        JsonReader b = reader.nextValueReader();
+        reader.endObject();
+
+        a.beginObject();
+        assertEquals( "c", a.nextName() );
+        a.beginArray();
+        assertEquals( 1, a.nextInt() );
+        assertEquals( "x", a.nextString() );
+        a.endArray();
+        a.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, a.peek() );
+        assertEquals( JsonToken.NULL, b.peek() );
+    }
+
+    public void testUnexpectedToken() {
+        JsonReader reader = new NativeJsonReader( "{\"a\": true}" );
+        try {
+            reader.beginArray();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+        reader.beginObject();
+        try {
+            reader.nextString();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+
+    public void testNonExecutePrefix() {
+        JsonReader reader = new NativeJsonReader( ")]}'\n []" );
+        reader.beginArray();
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testMalformedInput() {
+        try {
+            new NativeJsonReader( "{a: true}" );
+            fail();
+        } catch ( MalformedJsonException expected ) {
+        }
+    }
+
+    @Override
+    public void testResetEmptyInput() {
+        JsonReader reader = new NativeJsonReader( "[1]" );
+        reader.beginArray();
+
+        // an empty input releases the previous one, it is not parsed
+        reader.reset( "" );
+        assertEquals( "", reader.getInput() );
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+
+        reader.reset( "[2]" );
+        reader.beginArray();
+        assertEquals( 2, reader.nextInt() );
+    }
+
+    public void testIntegerLikeAndDuplicatedNames() {
+        JsonReader reader = newJsonReader( "{\"b\": 1, \"10\": 2, \"2\": 3, \"a\": 4, \"b\": 5}" );
+        List<String> names = new ArrayList<String>();
+        List<Integer> values = new ArrayList<Integer>();
+        reader.beginObject();
+        while ( reader.hasNext() ) {
+            names.add( reader.nextName() );
+            values.add( reader.nextInt() );
+        }
+        reader.endObject();
+
+        // a duplicated name is read once at its first position with its last value
+        // most engines read the integer-like names first in ascending order, the others keep the order of the input
+        if ( "2".equals( names.get( 0 ) ) ) {
+            assertEquals( Arrays.asList( "2", "10", "b", "a" ), names );
+            assertEquals( Arrays.asList( 3, 2, 5, 4 ), values );
+        } else {
+            assertEquals( Arrays.asList( "b", "10", "2", "a" ), names );
+            assertEquals( Arrays.asList( 5, 2, 3, 4 ), values );
+        }
+    }
+
+    public void testReadIntegerMapKeys() {
+        Map<Integer, String> map = IntegerMapReader.INSTANCE.read( "{\"30\":\"c\",\"1\":\"a\",\"-2\":\"d\",\"2\":\"b\"}", new
+                JsonDeserializationContext.Builder().useNativeJsonParser( true ).build() );
+
+        // all the keys are read but most engines read the non-negative integer keys first in ascending order
+        List<Integer> keys = new ArrayList<Integer>( map.keySet() );
+        if ( Integer.valueOf( 1 ).equals( keys.get( 0 ) ) ) {
+            assertEquals( Arrays.asList( 1, 2, 30, -2 ), keys );
+        } else {
+            assertEquals( Arrays.asList( 30, 1, -2, 2 ), keys );
+        }
+        assertEquals( "a", map.get( 1 ) );
+        assertEquals( "b", map.get( 2 ) );
+        assertEquals( "c", map.get( 30 ) );
+        assertEquals( "d", map.get( -2 ) );
+    }
+
+    public void testClosed() {
+        JsonReader reader = new NativeJsonReader( "[]" );
+        reader.close();
+        try {
+            reader.peek();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+
+    public void testReadWithContext() {
+        JsonDeserializationContext ctx = new JsonDeserializationContext.Builder().useNativeJsonParser( true ).build();
+        assertTrue( ctx.newJsonReader( "[]" ) instanceof NativeJsonReader );
+
+        List<Person> persons = PersonListReader.INSTANCE
+                .read( "[{\"name\":\"John\",\"age\":42,\"tags\":[\"a\",\"b\"],\"parent\":{\"name\":\"Bob\",\"age\":70}}," +
+                        "{\"age\":5,\"unknown\":null,\"name\":\"Tim\"}]", new JsonDeserializationContext.Builder()
+                        .useNativeJsonParser( true ).failOnUnknownProperties( false ).build() );
+
+        assertEquals( 2, persons.size() );
+        assertEquals( "John", persons.get( 0 ).name );
+        assertEquals( 42, persons.get( 0 ).age );
+        assertEquals( 2, persons.get( 0 ).tags.size() );
+        assertEquals( "b", persons.get( 0 ).tags.get( 1 ) );
+        assertEquals( "Bob", persons.get( 0 ).parent.name );
+        assertEquals( 70, persons.get( 0 ).parent.age );
+        assertEquals( "Tim", persons.get( 1 ).name );
+        assertEquals( 5, persons.get( 1 ).age );
+        assertNull( persons.get( 1 ).parent );
+    }
+
+    /**
+     * The native parser reads the whole input when the reader is created so a malformed input is rejected by the constructor.
+     */
+    private void assertMalformed( String... inputs ) {
+        for ( String input : inputs ) {
+            try {
+                newJsonReader( input );
+                fail( input );
+            } catch ( MalformedJsonException expected ) {
+            }
+        }
+    }
+
+    /**
+     * Some engines accept a trailing comma or a number with a missing digit. The input is then read like the expected one.
+     */
+    private void assertMalformedOrReadAs( String input, String expected ) {
+        JsonReader reader;
+        try {
+            reader = newJsonReader( input );
+        } catch ( MalformedJsonException e ) {
+            return;
+        }
+        assertEquals( expected, reader.nextValue() );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+
+import com.github.nmorel.gwtjackson.client.stream.AbstractJsonWriterTest;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+
+/**
+ * @author Nicolas Morel
+ */
+public class NativeJsonWriterTest extends AbstractJsonWriterTest {
+
+    @Override
+    public JsonWriter newJsonWriter() {
+        return new NativeJsonWriter();
+    }
+
+    @Override
+    public void testRepeatedName() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "a" ).value( true );
+        jsonWriter.name( "a" ).value( false );
+        jsonWriter.endObject();
+        // the last value replaces the previous one
+        assertEquals( "{\"a\":false}", jsonWriter.getOutput() );
+    }
+
+    @Override
+    public void testLenientWriterPermitsMultipleTopLevelValues() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.setLenient( true );
+        jsonWriter.beginArray();
+        jsonWriter.endArray();
+        try {
+            jsonWriter.beginArray();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+
+    @Override
+    public void testDoubles() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( -0.0 );
+        jsonWriter.value( 1.0 );
+        jsonWriter.value( Double.MAX_VALUE );
+        jsonWriter.value( Double.MIN_VALUE );
+        jsonWriter.value( 0.0 );
+        jsonWriter.value( -0.5 );
+        jsonWriter.value( 2.2250738585072014E-308 );
+        jsonWriter.value( Math.PI );
+        jsonWriter.value( Math.E );
+        jsonWriter.endArray();
+        jsonWriter.close();
+        // the numbers are always formatted by the engine
+        assertEquals( "[0," + "1," + "1.7976931348623157e+308," + "5e-324," + "0," + "-0.5," + "2.2250738585072014e-308," +
+                "" + "3.141592653589793," + "2.718281828459045]", jsonWriter.getOutput() );
+    }
+
+    public void testRawValuesAndBigNumbers() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( Long.MAX_VALUE );
+        jsonWriter.value( new BigDecimal( "12345678987654.456789" ) );
+        jsonWriter.rawValue( "{\"raw\":[1,2]}" );
+        jsonWriter.value( "\u0000" );
+        jsonWriter.endArray();
+        assertEquals( "[9223372036854775807,12345678987654.456789,{\"raw\":[1,2]},\"\\u0000\"]", jsonWriter.getOutput() );
+    }
+
+    public void testStringLookingLikePlaceholder() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( "\u0000gwtjackson:0" );
+        jsonWriter.rawValue( "{\"raw\":true}" );
+        jsonWriter.value( "gwtjackson:1" );
+        jsonWriter.endArray();
+        assertEquals( "[\"\\u0000gwtjackson:0\",{\"raw\":true},\"gwtjackson:1\"]", jsonWriter.getOutput() );
+    }
+
+    public void testRepeatedNameWithRawValue() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "a" ).rawValue( "{\"raw\":true}" );
+        jsonWriter.name( "a" ).value( Long.MAX_VALUE );
+        jsonWriter.name( "b" ).rawValue( "[1]" );
+        jsonWriter.name( "b" ).value( "replaced" );
+        jsonWriter.endObject();
+        // the raw values replaced by the duplicated names are not written
+        assertEquals( "{\"a\":9223372036854775807,\"b\":\"replaced\"}", jsonWriter.getOutput() );
+    }
+
+    public void testProtoName() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "__proto__" ).value( "value" );
+        jsonWriter.endObject();
+        assertEquals( "{\"__proto__\":\"value\"}", jsonWriter.getOutput() );
+    }
+}
@@ -18,6 +18,7 @@ package com.github.nmorel.gwtjackson.client.stream.impl;
 
 import com.github.nmorel.gwtjackson.client.stream.AbstractJsonReaderTest;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * @author Nicolas Morel
@@ -28,4 +29,47 @@ public class NonBufferedJsonReaderTest extends AbstractJsonReaderTest {
     public JsonReader newJsonReader( String input ) {
         return new NonBufferedJsonReader( input );
     }
+
+    public void testNextValueReaderSharesInput() {
+        String input = "{\"a\": {\"b\": \"x\\\"y\"},\n \"c\": null, \"d\": [1,,\"2\"]}";
+        NonBufferedJsonReader reader = new NonBufferedJsonReader( input );
+        reader.setLenient( true );
+        reader.beginObject();
+
+        assertEquals( "a", reader.nextName() );
+        JsonReader a = reader.nextValueReader();
+        assertSame( input, a.getInput() );
+        a.beginObject();
+        assertEquals( "b", a.nextName() );
+        assertEquals( "x\"y", a.nextString() );
+        a.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, a.peek() );
+
+        assertEquals( "c", reader.nextName() );
+        JsonReader c = reader.nextValueReader();
+        assertEquals( JsonToken.NULL, c.peek() );
+
+        assertEquals( "d", reader.nextName() );
+        reader.beginArray();
+        assertEquals( 1, reader.nextInt() );
+        // implicit null in lenient mode
+        JsonReader implicitNull = reader.nextValueReader();
+        assertEquals( JsonToken.NULL, implicitNull.peek() );
+        JsonReader two = reader.nextValueReader();
+        // the positions are the ones in the whole input
+        assertEquals( 2, two.getLineNumber() );
+        assertEquals( "2", two.nextString() );
+        reader.endArray();
+        reader.endObject();
+    }
+
+    public void testNextValueReaderOnName() {
+        JsonReader reader = new NonBufferedJsonReader( "{\"a\": 1}" );
+        reader.beginObject();
+        try {
+            reader.nextValueReader();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
 }
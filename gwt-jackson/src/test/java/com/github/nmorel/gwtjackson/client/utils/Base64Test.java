@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+
+/**
+ * @author Nicolas Morel
+ */
+public class Base64Test extends GwtJacksonTestCase {
+
+    public void testEncode() {
+        assertEquals( "", Base64.encode( new byte[0] ) );
+        assertEquals( "SGVsbG8=", Base64.encode( "Hello".getBytes() ) );
+        assertEquals( "SGk=", Base64.encode( new byte[]{'H', 'i'} ) );
+        assertEquals( "AP9/gA==", Base64.encode( new byte[]{0, -1, 127, -128} ) );
+    }
+
+    public void testDecode() {
+        assertTrue( Arrays.equals( new byte[0], Base64.decodeBytes( "" ) ) );
+        assertTrue( Arrays.equals( "Hello".getBytes(), Base64.decodeBytes( "SGVsbG8=" ) ) );
+        assertTrue( Arrays.equals( new byte[]{'H', 'i'}, Base64.decodeBytes( "SGk=" ) ) );
+        assertTrue( Arrays.equals( new byte[]{0, -1, 127, -128}, Base64.decodeBytes( "AP9/gA==" ) ) );
+        assertTrue( Arrays.equals( new byte[0], Base64.decodeBytes( "SG!=" ) ) );
+    }
+
+    public void testAllBytes() {
+        // more bytes than a chunk of the native encoding
+        byte[] bytes = new byte[20000];
+        for ( int i = 0; i < bytes.length; i++ ) {
+            bytes[i] = (byte) i;
+        }
+        String encoded = Base64.encode( bytes );
+        assertEquals( 26668, encoded.length() );
+        assertTrue( Arrays.equals( bytes, Base64.decodeBytes( encoded ) ) );
+    }
+}
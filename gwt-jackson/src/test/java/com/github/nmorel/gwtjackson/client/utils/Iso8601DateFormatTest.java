@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.Date;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+
+/**
+ * @author Nicolas Morel
+ */
+public class Iso8601DateFormatTest extends GwtJacksonTestCase {
+
+    private static final long[] MILLIS = new long[]{0l, 1l, -1l, 951782400000l, 951868799999l, 1377543971773l, -2208988800001l,
+            -12212553600000l, 253402300799999l, 1709210096123l};
+
+    public void testFormatLikeDateTimeFormat() {
+        for ( long millis : MILLIS ) {
+            Date date = new Date( millis );
+            assertEquals( DateFormat.format( DateFormat.DATE_FORMAT_STR_ISO8601, DateFormat.UTC_TIMEZONE, date ), Iso8601DateFormat
+                    .formatDateTime( date ) );
+            assertEquals( DateFormat.format( DateFormat.DATE_FORMAT_STR_ISO8601_Z, DateFormat.UTC_TIMEZONE, date ), Iso8601DateFormat
+                    .formatDateTimeZ( date ) );
+            assertEquals( DateFormat.format( DateFormat.DATE_FORMAT_STR_PLAIN, DateFormat.UTC_TIMEZONE, date ), Iso8601DateFormat
+                    .formatDate( date ) );
+        }
+    }
+
+    public void testFormatUnhandledYears() {
+        assertNull( Iso8601DateFormat.formatDateTime( new Date( -12219292800001l ) ) );
+        assertNull( Iso8601DateFormat.formatDateTime( new Date( 253402300800000l ) ) );
+    }
+
+    public void testParse() {
+        for ( long millis : MILLIS ) {
+            Date date = new Date( millis );
+            assertEquals( date, Iso8601DateFormat.parseDateTime( Iso8601DateFormat.formatDateTime( date ) ) );
+            assertEquals( date, Iso8601DateFormat.parseDateTime( Iso8601DateFormat.formatDateTimeZ( date ) ) );
+            assertEquals( date, Iso8601DateFormat.parseDateTimeZ( Iso8601DateFormat.formatDateTimeZ( date ) ) );
+        }
+
+        assertEquals( getUTCDate( 2012, 8, 18, 15, 45, 56, 543 ), Iso8601DateFormat.parseDateTime( "2012-08-18T17:45:56.543+02:00" ) );
+        assertEquals( getUTCDate( 2012, 8, 18, 15, 45, 56, 543 ), Iso8601DateFormat.parseDateTime( "2012-08-18T12:15:56.543-0330" ) );
+        assertEquals( getUTCDate( 2000, 2, 29, 0, 0, 0, 0 ), Iso8601DateFormat.parseDate( "2000-02-29" ) );
+    }
+
+    public void testParseUnhandled() {
+        assertNull( Iso8601DateFormat.parseDateTime( "2012-08-18T17:45:56+02:00" ) );
+        assertNull( Iso8601DateFormat.parseDateTime( "2012-08-18T17:45:56.543" ) );
+        assertNull( Iso8601DateFormat.parseDateTime( "2012-08-18T24:45:56.543Z" ) );
+        assertNull( Iso8601DateFormat.parseDateTimeZ( "2012-08-18T17:45:56.543+0000" ) );
+        assertNull( Iso8601DateFormat.parseDate( "2001-02-29" ) );
+        assertNull( Iso8601DateFormat.parseDate( "1582-10-15" ) );
+        assertNull( Iso8601DateFormat.parseDate( "2001-13-01" ) );
+        assertNull( Iso8601DateFormat.parseDate( "2001/01/01" ) );
+        assertNull( Iso8601DateFormat.parseDate( "20a1-01-01" ) );
+    }
+}
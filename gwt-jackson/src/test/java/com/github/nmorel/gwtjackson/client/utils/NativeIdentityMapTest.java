@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class NativeIdentityMapTest extends GwtJacksonTestCase {
+
+    private static class Key {
+
+        private final int value;
+
+        private Key( int value ) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            return o instanceof Key && ((Key) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+
+    public void testIdentity() {
+        if ( !GWT.isScript() ) {
+            // the expando property cannot be set on java objects in dev mode
+            return;
+        }
+
+        NativeIdentityMap<String> map = NativeIdentityMap.create();
+        Key first = new Key( 1 );
+        Key second = new Key( 1 );
+
+        assertNull( map.get( first ) );
+        map.put( first, "first" );
+        assertEquals( "first", map.get( first ) );
+        assertNull( map.get( second ) );
+
+        map.put( second, "second" );
+        assertEquals( "first", map.get( first ) );
+        assertEquals( "second", map.get( second ) );
+
+        map.put( first, null );
+        assertNull( map.get( first ) );
+
+        map.put( "key", "string" );
+        assertEquals( "string", map.get( "key" ) );
+    }
+
+    public void testSeveralMaps() {
+        if ( !GWT.isScript() ) {
+            return;
+        }
+
+        NativeIdentityMap<Integer> even = NativeIdentityMap.create();
+        NativeIdentityMap<Integer> all = NativeIdentityMap.create();
+        List<Key> keys = new ArrayList<Key>();
+        for ( int i = 0; i < 1000; i++ ) {
+            Key key = new Key( i );
+            keys.add( key );
+            all.put( key, i );
+            if ( i % 2 == 0 ) {
+                even.put( key, i );
+            }
+        }
+
+        for ( int i = 0; i < 1000; i++ ) {
+            Key key = keys.get( i );
+            assertEquals( NativeIdentityMap.identityId( key ), NativeIdentityMap.identityId( key ) );
+            assertEquals( Integer.valueOf( i ), all.get( key ) );
+            assertEquals( i % 2 == 0 ? Integer.valueOf( i ) : null, even.get( key ) );
+        }
+    }
+
+    public void testIdentifierNotEnumerable() {
+        if ( !GWT.isScript() ) {
+            return;
+        }
+
+        Key key = new Key( 1 );
+        String before = enumerableProperties( key );
+        NativeIdentityMap.identityId( key );
+        assertEquals( before, enumerableProperties( key ) );
+    }
+
+    public void testFrozenKey() {
+        if ( !GWT.isScript() ) {
+            return;
+        }
+
+        NativeIdentityMap<String> map = NativeIdentityMap.create();
+        Key identified = new Key( 1 );
+        map.put( identified, "identified" );
+        Key frozen = new Key( 2 );
+        if ( !freeze( identified ) || !freeze( frozen ) ) {
+            // Object.freeze is not supported
+            return;
+        }
+
+        assertEquals( "identified", map.get( identified ) );
+        assertNull( NativeIdentityMap.identityId( frozen ) );
+        assertFalse( map.put( frozen, "frozen" ) );
+        assertNull( map.get( frozen ) );
+    }
+
+    private static native boolean freeze( Object object ) /*-{
+        if (typeof Object.freeze != 'function') {
+            return false;
+        }
+        Object.freeze(object);
+        return true;
+    }-*/;
+
+    private static native String enumerableProperties( Object object ) /*-{
+        var names = [];
+        for (var name in object) {
+            names.push(name);
+        }
+        return names.join(',');
+    }-*/;
+}
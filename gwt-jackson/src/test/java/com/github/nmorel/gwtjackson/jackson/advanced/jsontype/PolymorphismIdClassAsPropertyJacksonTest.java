@@ -34,4 +34,10 @@ public class PolymorphismIdClassAsPropertyJacksonTest extends AbstractJacksonTes
     public void testDeserialize() {
         PolymorphismIdClassAsPropertyTester.INSTANCE.testDeserialize( createReader( PolymorphismIdClassAsPropertyTester.Person[].class ) );
     }
+
+    @Test
+    public void testDeserializeTypeNotFirst() {
+        PolymorphismIdClassAsPropertyTester.INSTANCE
+                .testDeserializeTypeNotFirst( createReader( PolymorphismIdClassAsPropertyTester.Person[].class ) );
+    }
 }
@@ -31,4 +31,25 @@ public class JsonFormatJacksonTest extends AbstractJacksonTest {
         objectMapper.configure( SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false );
         JsonFormatTester.INSTANCE.testFormatDate( createMapper( JsonFormatTester.FormatDateBean.class ) );
     }
+
+    @Test
+    public void testFormatArrayShape() {
+        JsonFormatTester.INSTANCE.testFormatArrayShape( createMapper( JsonFormatTester.ArrayShapeBean.class ) );
+    }
+
+    @Test
+    public void testFormatArrayShapeWithCreator() {
+        JsonFormatTester.INSTANCE.testFormatArrayShapeWithCreator( createMapper( JsonFormatTester.ArrayShapeCreatorBean.class ) );
+    }
+
+    @Test
+    public void testFormatArrayShapeOnProperty() {
+        JsonFormatTester.INSTANCE.testFormatArrayShapeOnProperty( createMapper( JsonFormatTester.ArrayShapePropertyBean.class ) );
+    }
+
+    @Test
+    public void testFormatArrayShapeWithEmptyArrays() {
+        objectMapper.configure( SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false );
+        JsonFormatTester.INSTANCE.testFormatArrayShapeWithEmptyArrays( createMapper( JsonFormatTester.ArrayShapeEmptyBean.class ) );
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.jackson.annotations;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.github.nmorel.gwtjackson.jackson.AbstractJacksonTest;
+import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
+import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester.BeanWithViews;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester.Detail;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonViewTester.Summary;
+import org.junit.Test;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonViewJacksonTest extends AbstractJacksonTest {
+
+    private ObjectWriterTester<BeanWithViews> createWriterWithView( final Class<?> view ) {
+        return new ObjectWriterTester<BeanWithViews>() {
+            @Override
+            public String write( BeanWithViews input ) {
+                try {
+                    return objectMapper.writerWithView( view ).writeValueAsString( input );
+                } catch ( JsonProcessingException e ) {
+                    throw new JsonSerializationException( e );
+                }
+            }
+        };
+    }
+
+    private ObjectReaderTester<BeanWithViews> createReaderWithView( final Class<?> view ) {
+        return new ObjectReaderTester<BeanWithViews>() {
+            @Override
+            public BeanWithViews read( String input ) {
+                try {
+                    return objectMapper.reader( BeanWithViews.class ).withView( view ).readValue( input );
+                } catch ( IOException e ) {
+                    throw new JsonDeserializationException( e );
+                }
+            }
+        };
+    }
+
+    @Test
+    public void testSerializeWithoutView() {
+        JsonViewTester.INSTANCE.testSerializeWithoutView( createWriter( BeanWithViews.class ) );
+    }
+
+    @Test
+    public void testSerializeWithSummaryView() {
+        JsonViewTester.INSTANCE.testSerializeWithSummaryView( createWriterWithView( Summary.class ) );
+    }
+
+    @Test
+    public void testSerializeWithDetailView() {
+        JsonViewTester.INSTANCE.testSerializeWithDetailView( createWriterWithView( Detail.class ) );
+    }
+
+    @Test
+    public void testDeserializeWithoutView() {
+        JsonViewTester.INSTANCE.testDeserializeWithoutView( createReader( BeanWithViews.class ) );
+    }
+
+    @Test
+    public void testDeserializeWithSummaryView() {
+        JsonViewTester.INSTANCE.testDeserializeWithSummaryView( createReaderWithView( Summary.class ) );
+    }
+
+    @Test
+    public void testDeserializeWithDetailView() {
+        JsonViewTester.INSTANCE.testDeserializeWithDetailView( createReaderWithView( Detail.class ) );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nmorel.gwtjackson.jackson.mapper;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.nmorel.gwtjackson.jackson.AbstractJacksonTest;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester.BeanWithAnyGetter;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester.BeanWithIgnoredPropertiesOnProperty;
+import com.github.nmorel.gwtjackson.shared.mapper.BeanPropertiesSerializationTester.BeanWithProperties;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * @author Nicolas Morel
+ */
+public class BeanPropertiesSerializationJacksonTest extends AbstractJacksonTest {
+
+    @Test
+    public void testSerializeProperties() {
+        BeanPropertiesSerializationTester.INSTANCE.testSerializeProperties( createWriter( BeanWithProperties.class ) );
+    }
+
+    @Test
+    public void testSerializeNullProperties() {
+        BeanPropertiesSerializationTester.INSTANCE.testSerializeNullProperties( createWriter( BeanWithProperties.class ) );
+    }
+
+    @Test
+    public void testSerializeWithoutNullProperties() {
+        objectMapper.setSerializationInclusion( JsonInclude.Include.NON_NULL );
+        BeanPropertiesSerializationTester.INSTANCE.testSerializeWithoutNullProperties( createWriter( BeanWithProperties.class ) );
+    }
+
+    @Test
+    public void testSerializePropertiesIgnoredOnProperty() {
+        BeanPropertiesSerializationTester.INSTANCE
+                .testSerializePropertiesIgnoredOnProperty( createWriter( BeanWithIgnoredPropertiesOnProperty.class ) );
+    }
+
+    @Test
+    public void testSerializeEmptyAnyGetter() {
+        BeanPropertiesSerializationTester.INSTANCE.testSerializeEmptyAnyGetter( createWriter( BeanWithAnyGetter.class ) );
+    }
+
+    @Test
+    @Ignore("jackson writes the entries of the @JsonAnyGetter map, gwt-jackson doesn't support it")
+    public void testSerializeAnyGetter() {
+        BeanPropertiesSerializationTester.INSTANCE.testSerializeAnyGetter( createWriter( BeanWithAnyGetter.class ) );
+    }
+}
@@ -17,11 +17,15 @@
 package com.github.nmorel.gwtjackson.shared.annotations;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.github.nmorel.gwtjackson.shared.AbstractTester;
 import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
 
@@ -62,6 +66,67 @@ public final class JsonFormatTester extends AbstractTester {
         }
     }
 
+    @JsonFormat( shape = Shape.ARRAY )
+    @JsonPropertyOrder( {"id", "name", "enabled"} )
+    public static class ArrayShapeBean {
+
+        public int id;
+
+        public String name;
+
+        public boolean enabled;
+    }
+
+    @JsonFormat( shape = Shape.ARRAY )
+    @JsonPropertyOrder( {"id", "name", "comment"} )
+    public static class ArrayShapeCreatorBean {
+
+        private final int id;
+
+        private final String name;
+
+        public String comment;
+
+        @JsonCreator
+        public ArrayShapeCreatorBean( @JsonProperty( "id" ) int id, @JsonProperty( "name" ) String name ) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @JsonPropertyOrder( {"x", "y"} )
+    public static class Point {
+
+        public int x;
+
+        public int y;
+    }
+
+    public static class ArrayShapePropertyBean {
+
+        @JsonFormat( shape = Shape.ARRAY )
+        public Point point;
+    }
+
+    @JsonFormat( shape = Shape.ARRAY )
+    @JsonPropertyOrder( {"values", "codes", "name"} )
+    public static class ArrayShapeEmptyBean {
+
+        public List<String> values = new ArrayList<String>();
+
+        public int[] codes = new int[0];
+
+        public String name;
+    }
+
     public static final JsonFormatTester INSTANCE = new JsonFormatTester();
 
     private JsonFormatTester() {
@@ -102,4 +167,63 @@ public final class JsonFormatTester extends AbstractTester {
         assertEquals( timestamp, actual.timestamp );
     }
 
+    public void testFormatArrayShape( ObjectMapperTester<ArrayShapeBean> mapper ) {
+        ArrayShapeBean bean = new ArrayShapeBean();
+        bean.id = 1;
+        bean.name = "first";
+        bean.enabled = true;
+        assertEquals( "[1,\"first\",true]", mapper.write( bean ) );
+
+        bean.name = null;
+        assertEquals( "[1,null,true]", mapper.write( bean ) );
+
+        ArrayShapeBean actual = mapper.read( "[2,\"second\",false]" );
+        assertEquals( 2, actual.id );
+        assertEquals( "second", actual.name );
+        assertFalse( actual.enabled );
+
+        // missing trailing values are left to their default
+        actual = mapper.read( "[3]" );
+        assertEquals( 3, actual.id );
+        assertNull( actual.name );
+        assertFalse( actual.enabled );
+    }
+
+    public void testFormatArrayShapeWithCreator( ObjectMapperTester<ArrayShapeCreatorBean> mapper ) {
+        ArrayShapeCreatorBean bean = new ArrayShapeCreatorBean( 1, "first" );
+        bean.comment = "a comment";
+        String expected = "[1,\"first\",\"a comment\"]";
+        assertEquals( expected, mapper.write( bean ) );
+
+        ArrayShapeCreatorBean actual = mapper.read( expected );
+        assertEquals( 1, actual.getId() );
+        assertEquals( "first", actual.getName() );
+        assertEquals( "a comment", actual.comment );
+    }
+
+    public void testFormatArrayShapeOnProperty( ObjectMapperTester<ArrayShapePropertyBean> mapper ) {
+        ArrayShapePropertyBean bean = new ArrayShapePropertyBean();
+        bean.point = new Point();
+        bean.point.x = 4;
+        bean.point.y = 7;
+        String expected = "{\"point\":[4,7]}";
+        assertEquals( expected, mapper.write( bean ) );
+
+        ArrayShapePropertyBean actual = mapper.read( expected );
+        assertEquals( 4, actual.point.x );
+        assertEquals( 7, actual.point.y );
+    }
+
+    public void testFormatArrayShapeWithEmptyArrays( ObjectMapperTester<ArrayShapeEmptyBean> mapper ) {
+        // the empty arrays are not written but a placeholder keeps their position, otherwise the name would be read as the values
+        ArrayShapeEmptyBean bean = new ArrayShapeEmptyBean();
+        bean.name = "first";
+        String expected = "[null,null,\"first\"]";
+        assertEquals( expected, mapper.write( bean ) );
+
+        ArrayShapeEmptyBean actual = mapper.read( expected );
+        assertNull( actual.values );
+        assertNull( actual.codes );
+        assertEquals( "first", actual.name );
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.shared.annotations;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.github.nmorel.gwtjackson.shared.AbstractTester;
+import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
+import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
+
+/**
+ * @author Nicolas Morel
+ */
+public final class JsonViewTester extends AbstractTester {
+
+    public static class Summary {}
+
+    public static class Detail extends Summary {}
+
+    @JsonPropertyOrder(alphabetic = true)
+    public static class BeanWithViews {
+
+        public int id;
+
+        @JsonView(Summary.class)
+        public String name;
+
+        @JsonView(Detail.class)
+        public String description;
+    }
+
+    public static final JsonViewTester INSTANCE = new JsonViewTester();
+
+    private static final String JSON = "{\"description\":\"A description\",\"id\":5,\"name\":\"A name\"}";
+
+    private JsonViewTester() {
+    }
+
+    private BeanWithViews createBean() {
+        BeanWithViews bean = new BeanWithViews();
+        bean.id = 5;
+        bean.name = "A name";
+        bean.description = "A description";
+        return bean;
+    }
+
+    public void testSerializeWithoutView( ObjectWriterTester<BeanWithViews> writer ) {
+        assertEquals( JSON, writer.write( createBean() ) );
+    }
+
+    public void testSerializeWithSummaryView( ObjectWriterTester<BeanWithViews> writer ) {
+        assertEquals( "{\"id\":5,\"name\":\"A name\"}", writer.write( createBean() ) );
+    }
+
+    public void testSerializeWithDetailView( ObjectWriterTester<BeanWithViews> writer ) {
+        assertEquals( JSON, writer.write( createBean() ) );
+    }
+
+    public void testDeserializeWithoutView( ObjectReaderTester<BeanWithViews> reader ) {
+        BeanWithViews result = reader.read( JSON );
+        assertEquals( 5, result.id );
+        assertEquals( "A name", result.name );
+        assertEquals( "A description", result.description );
+    }
+
+    public void testDeserializeWithSummaryView( ObjectReaderTester<BeanWithViews> reader ) {
+        BeanWithViews result = reader.read( JSON );
+        assertEquals( 5, result.id );
+        assertEquals( "A name", result.name );
+        assertNull( result.description );
+    }
+
+    public void testDeserializeWithDetailView( ObjectReaderTester<BeanWithViews> reader ) {
+        BeanWithViews result = reader.read( JSON );
+        assertEquals( 5, result.id );
+        assertEquals( "A name", result.name );
+        assertEquals( "A description", result.description );
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.shared.mapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.nmorel.gwtjackson.shared.AbstractTester;
+import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
+
+/**
+ * Checks the properties written by the generated serializers, with or without the properties ignored at runtime.
+ *
+ * @author Nicolas Morel
+ */
+public final class BeanPropertiesSerializationTester extends AbstractTester {
+
+    @JsonPropertyOrder( {"id", "name", "secret", "nullable", "quoted\"name", "computed"} )
+    @JsonIgnoreProperties( {"ignoredByClass"} )
+    public static class BeanWithProperties {
+
+        public int id;
+
+        public String name;
+
+        @JsonProperty
+        private String secret;
+
+        public String nullable;
+
+        @JsonProperty( "quoted\"name" )
+        public String quoted;
+
+        @JsonIgnore
+        public String ignored;
+
+        public String ignoredByClass;
+
+        public String getComputed() {
+            return null == name ? null : name.toUpperCase();
+        }
+
+        public void setSecret( String secret ) {
+            this.secret = secret;
+        }
+    }
+
+    public static class BeanWithIgnoredPropertiesOnProperty {
+
+        @JsonIgnoreProperties( {"name", "nullable"} )
+        public BeanWithProperties bean;
+    }
+
+    @JsonPropertyOrder( {"id", "name"} )
+    public static class BeanWithAnyGetter {
+
+        public int id;
+
+        public String name;
+
+        private Map<String, String> others = new LinkedHashMap<String, String>();
+
+        @JsonAnyGetter
+        public Map<String, String> others() {
+            return others;
+        }
+    }
+
+    public static final BeanPropertiesSerializationTester INSTANCE = new BeanPropertiesSerializationTester();
+
+    private BeanPropertiesSerializationTester() {
+    }
+
+    private BeanWithProperties newBean() {
+        BeanWithProperties bean = new BeanWithProperties();
+        bean.id = 7;
+        bean.name = "bean";
+        bean.setSecret( "secret" );
+        bean.nullable = "nullable";
+        bean.quoted = "quoted";
+        bean.ignored = "ignored";
+        bean.ignoredByClass = "ignoredByClass";
+        return bean;
+    }
+
+    public void testSerializeProperties( ObjectWriterTester<BeanWithProperties> writer ) {
+        String expected = "{\"id\":7," +
+                "\"name\":\"bean\"," +
+                "\"secret\":\"secret\"," +
+                "\"nullable\":\"nullable\"," +
+                "\"quoted\\\"name\":\"quoted\"," +
+                "\"computed\":\"BEAN\"}";
+
+        assertEquals( expected, writer.write( newBean() ) );
+    }
+
+    public void testSerializeNullProperties( ObjectWriterTester<BeanWithProperties> writer ) {
+        BeanWithProperties bean = new BeanWithProperties();
+        bean.id = 7;
+
+        String expected = "{\"id\":7," +
+                "\"name\":null," +
+                "\"secret\":null," +
+                "\"nullable\":null," +
+                "\"quoted\\\"name\":null," +
+                "\"computed\":null}";
+
+        assertEquals( expected, writer.write( bean ) );
+    }
+
+    public void testSerializeWithoutNullProperties( ObjectWriterTester<BeanWithProperties> writer ) {
+        BeanWithProperties bean = new BeanWithProperties();
+        bean.id = 7;
+        bean.quoted = "quoted";
+
+        assertEquals( "{\"id\":7,\"quoted\\\"name\":\"quoted\"}", writer.write( bean ) );
+    }
+
+    public void testSerializePropertiesIgnoredOnProperty( ObjectWriterTester<BeanWithIgnoredPropertiesOnProperty> writer ) {
+        BeanWithIgnoredPropertiesOnProperty bean = new BeanWithIgnoredPropertiesOnProperty();
+        bean.bean = newBean();
+
+        // same order as the generated serialization, without the ignored properties
+        String expected = "{\"bean\":{" +
+                "\"id\":7," +
+                "\"secret\":\"secret\"," +
+                "\"quoted\\\"name\":\"quoted\"," +
+                "\"computed\":\"BEAN\"}}";
+
+        assertEquals( expected, writer.write( bean ) );
+    }
+
+    public void testSerializeEmptyAnyGetter( ObjectWriterTester<BeanWithAnyGetter> writer ) {
+        BeanWithAnyGetter bean = new BeanWithAnyGetter();
+        bean.id = 7;
+        bean.name = "bean";
+
+        assertEquals( "{\"id\":7,\"name\":\"bean\"}", writer.write( bean ) );
+    }
+
+    public void testSerializeAnyGetter( ObjectWriterTester<BeanWithAnyGetter> writer ) {
+        BeanWithAnyGetter bean = new BeanWithAnyGetter();
+        bean.id = 7;
+        bean.name = "bean";
+        bean.others().put( "other", "value" );
+
+        // @JsonAnyGetter is not supported, only the declared properties are written
+        assertEquals( "{\"id\":7,\"name\":\"bean\"}", writer.write( bean ) );
+    }
+}
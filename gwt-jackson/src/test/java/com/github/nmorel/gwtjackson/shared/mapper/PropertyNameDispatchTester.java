@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.shared.mapper;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.shared.AbstractTester;
+import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
+
+/**
+ * Checks the dispatch of the properties by name when the names share their length or their first characters.
+ *
+ * @author Nicolas Morel
+ */
+public final class PropertyNameDispatchTester extends AbstractTester {
+
+    @JsonIgnoreProperties( {"ac", "abd"} )
+    public static class PropertyNameBean {
+
+        public String aa;
+
+        public String ab;
+
+        public String ba;
+
+        public String abc;
+
+        public String bac;
+
+        public String x;
+
+        public String y;
+
+        public String ac;
+
+        public String abd;
+    }
+
+    public static final PropertyNameDispatchTester INSTANCE = new PropertyNameDispatchTester();
+
+    private PropertyNameDispatchTester() {
+    }
+
+    public void testDeserializeProperties( ObjectReaderTester<PropertyNameBean> reader ) {
+        String input = "{" +
+                "\"y\":\"y\"," +
+                "\"bac\":\"bac\"," +
+                "\"aa\":\"aa\"," +
+                "\"ac\":\"ignored\"," +
+                "\"abc\":\"abc\"," +
+                "\"ba\":\"ba\"," +
+                "\"abd\":\"ignored\"," +
+                "\"x\":\"x\"," +
+                "\"ab\":\"ab\"" +
+                "}";
+
+        PropertyNameBean bean = reader.read( input );
+        assertEquals( "aa", bean.aa );
+        assertEquals( "ab", bean.ab );
+        assertEquals( "ba", bean.ba );
+        assertEquals( "abc", bean.abc );
+        assertEquals( "bac", bean.bac );
+        assertEquals( "x", bean.x );
+        assertEquals( "y", bean.y );
+        assertNull( bean.ac );
+        assertNull( bean.abd );
+    }
+
+    public void testDeserializeUnknownProperty( ObjectReaderTester<PropertyNameBean> reader ) {
+        // same length and same discriminating character than known properties
+        String[] unknownNames = new String[]{"a", "bb", "abb", "aaa", "z", "xyzw"};
+        for ( String name : unknownNames ) {
+            try {
+                reader.read( "{\"" + name + "\":\"value\"}" );
+                fail( "Property '" + name + "' should be unknown" );
+            } catch ( JsonDeserializationException e ) {
+                // it's the normal behaviour
+            }
+        }
+    }
+}